@@ -5,24 +5,34 @@ import exception.GameException;
 import factory.PlayerFactory;
 import model.Board;
 import model.GameState;
+import model.GridBoard;
+import model.GridGameState;
 import model.Player;
+import model.SparseBoard;
 import service.GameService;
+import service.GridGameService;
 import service.ValidationService;
-import strategy.DefaultWinningStrategy;
+import strategy.LineCounterWinningStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
 public class GameController {
+    private static final int DEFAULT_SPARSE_WIN_LENGTH = 5;
+    private static final int MIN_DENSE_SIZE = 3;
+    private static final int MAX_DENSE_SIZE = 19;
+
     private final Scanner scanner;
     private final GameService gameService;
+    private final GridGameService gridGameService;
     private final ValidationService validationService;
     private final PlayerFactory playerFactory;
 
     public GameController() {
         this.scanner = new Scanner(System.in);
-        this.gameService = new GameService(new DefaultWinningStrategy());
+        this.gameService = new GameService(new LineCounterWinningStrategy());
+        this.gridGameService = new GridGameService(new LineCounterWinningStrategy());
         this.validationService = new ValidationService();
         this.playerFactory = new PlayerFactory(scanner);
     }
@@ -31,11 +41,13 @@ public class GameController {
         displayWelcomeMessage();
 
         try {
-            Board board = createBoard();
-            List<Player> players = createPlayers();
-            GameState gameState = gameService.initializeGame(board, players);
-
-            playGame(gameState);
+            GridBoard board = createBoard();
+            List<Player> players = createPlayers(board);
+            if (board instanceof Board dense) {
+                playGame(gameService.initializeGame(dense, players));
+            } else {
+                playGridGame(gridGameService.initializeGame(board, players));
+            }
 
         } catch (GameException e) {
             System.out.println("\nGame initialization failed: " + e.getMessage());
@@ -50,26 +62,62 @@ public class GameController {
         System.out.println("=".repeat(50));
     }
 
-    private Board createBoard() throws GameException {
+    private GridBoard createBoard() {
         while (true) {
             try {
-                System.out.print("\nEnter board size (3-10): ");
-                int size = scanner.nextInt();
-                scanner.nextLine();
-
-                validationService.validateBoardSize(size);
-                return new Board(size);
+                System.out.print("\nEnter board size (3-19, RxC for a rectangular board, 0 for unbounded): ");
+                String[] dimensions = scanner.nextLine().trim().toLowerCase().split("x", -1);
+                int rows = Integer.parseInt(dimensions[0].trim());
+                int cols = dimensions.length > 1 ? Integer.parseInt(dimensions[1].trim()) : rows;
+                if (dimensions.length > 2) {
+                    throw new NumberFormatException();
+                }
+
+                boolean dense = rows == cols && rows >= MIN_DENSE_SIZE && rows <= MAX_DENSE_SIZE;
+                if (dimensions.length == 1 && rows != GridBoard.UNBOUNDED || dense) {
+                    validationService.validateBoardSize(rows);
+                    int winLength = readWinLength(rows);
+                    return new Board(rows, winLength);
+                }
+                int winLength = readSparseWinLength(rows, cols);
+                return new SparseBoard(rows, cols, winLength);
 
             } catch (GameException e) {
                 System.out.println("Error: " + e.getMessage());
-            } catch (Exception e) {
-                System.out.println("Error: Invalid input. Please enter a number.");
-                scanner.nextLine();
+            } catch (NumberFormatException e) {
+                System.out.println("Error: Invalid input. Please enter a size such as 3, 15x20 or 0.");
             }
         }
     }
 
-    private List<Player> createPlayers() throws GameException {
+    private int readWinLength(int size) throws GameException {
+        System.out.printf("Enter win length (3-%d, default %d): ", size, size);
+        String input = scanner.nextLine().trim();
+        try {
+            int winLength = input.isEmpty() ? size : Integer.parseInt(input);
+            validationService.validateWinLength(size, winLength);
+            return winLength;
+        } catch (NumberFormatException e) {
+            throw new GameException("Win length must be a number");
+        }
+    }
+
+    private int readSparseWinLength(int rows, int cols) throws GameException {
+        boolean unbounded = rows == GridBoard.UNBOUNDED || cols == GridBoard.UNBOUNDED;
+        int defaultLength = unbounded ? DEFAULT_SPARSE_WIN_LENGTH
+                : Math.min(DEFAULT_SPARSE_WIN_LENGTH, Math.max(rows, cols));
+        System.out.printf("Enter win length (default %d): ", defaultLength);
+        String input = scanner.nextLine().trim();
+        try {
+            int winLength = input.isEmpty() ? defaultLength : Integer.parseInt(input);
+            validationService.validateSparseBoard(rows, cols, winLength);
+            return winLength;
+        } catch (NumberFormatException e) {
+            throw new GameException("Win length must be a number");
+        }
+    }
+
+    private List<Player> createPlayers(GridBoard board) throws GameException {
         System.out.print("\nEnter number of players (default 2): ");
         int numPlayers = 2;
 
@@ -84,7 +132,7 @@ public class GameController {
 
         List<Player> players = new ArrayList<>();
         for (int i = 1; i <= numPlayers; i++) {
-            Player player = playerFactory.createPlayer(i);
+            Player player = playerFactory.createPlayer(i, board);
             players.add(player);
         }
 
@@ -106,6 +154,37 @@ public class GameController {
         System.out.println("\nThank you for playing! Goodbye!");
     }
 
+    private void playGridGame(GridGameState gameState) {
+        boolean playAgain = true;
+
+        while (playAgain) {
+            playGridRound(gameState);
+            playAgain = askPlayAgain();
+
+            if (playAgain) {
+                gridGameService.resetGame(gameState);
+                System.out.println("\nBoard has been reset. Starting new game...");
+            }
+        }
+
+        System.out.println("\nThank you for playing! Goodbye!");
+    }
+
+    private void playGridRound(GridGameState gameState) {
+        System.out.println("\n" + "=".repeat(50));
+        System.out.println("              GAME START");
+        System.out.println("=".repeat(50));
+
+        gameState.getBoard().display();
+
+        while (!gameState.isGameOver()) {
+            gridGameService.playTurn(gameState);
+            gameState.getBoard().display();
+        }
+
+        displayGameResult(gameState.getStatus(), gameState.getWinner(), gameState.getMoveCount());
+    }
+
     private void playRound(GameState gameState) {
         System.out.println("\n" + "=".repeat(50));
         System.out.println("              GAME START");
@@ -118,20 +197,20 @@ public class GameController {
             gameState.getBoard().display();
         }
 
-        displayGameResult(gameState);
+        displayGameResult(gameState.getStatus(), gameState.getWinner(), gameState.getMoveCount());
     }
 
-    private void displayGameResult(GameState gameState) {
+    private void displayGameResult(GameStatus status, Player winner, int moveCount) {
         System.out.println("\n" + "=".repeat(50));
 
-        if (gameState.getStatus() == GameStatus.WON) {
-            System.out.println("        🎉 " + gameState.getWinner().getName() + " WINS! 🎉");
-        } else if (gameState.getStatus() == GameStatus.DRAW) {
+        if (status == GameStatus.WON) {
+            System.out.println("        🎉 " + winner.getName() + " WINS! 🎉");
+        } else if (status == GameStatus.DRAW) {
             System.out.println("              IT'S A DRAW!");
         }
 
         System.out.println("=".repeat(50));
-        System.out.println("Total moves: " + gameState.getMoveCount());
+        System.out.println("Total moves: " + moveCount);
     }
 
     private boolean askPlayAgain() {
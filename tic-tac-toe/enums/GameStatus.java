@@ -3,5 +3,6 @@ package enums;
 public enum GameStatus {
     IN_PROGRESS,
     DRAW,
-    WON
+    WON,
+    ABANDONED
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package enums;
+
+public enum PairingMode {
+    ROUND_ROBIN,
+    SWISS
+}
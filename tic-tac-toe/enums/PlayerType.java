@@ -2,5 +2,9 @@ package enums;
 
 public enum PlayerType {
     HUMAN,
-    AI
+    AI,
+    MINIMAX_AI,
+    MCTS_AI,
+    TABLEBASE_AI,
+    CONNECT_K_AI
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package enums;
+
+public enum SprtDecision {
+    CONTINUE,
+    ACCEPT_H0,
+    ACCEPT_H1
+}
@@ -1,6 +1,8 @@
 package exception;
 
 public class GameException extends Exception {
+    private static final long serialVersionUID = 1L;
+
     public GameException(String message) {
         super(message);
     }
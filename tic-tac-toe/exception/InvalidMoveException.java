@@ -1,6 +1,8 @@
 package exception;
 
 public class InvalidMoveException extends GameException {
+    private static final long serialVersionUID = 1L;
+
     public InvalidMoveException(String message) {
         super(message);
     }
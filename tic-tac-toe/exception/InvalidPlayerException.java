@@ -1,6 +1,8 @@
 package exception;
 
 public class InvalidPlayerException extends GameException {
+    private static final long serialVersionUID = 1L;
+
     public InvalidPlayerException(String message) {
         super(message);
     }
@@ -2,11 +2,18 @@ package factory;
 
 import enums.PlayerType;
 import exception.GameException;
+import model.Board;
+import model.GridBoard;
 import model.Player;
 import service.ValidationService;
 import strategy.AIPlayerStrategy;
+import strategy.ConnectKPlayerStrategy;
 import strategy.HumanPlayerStrategy;
+import strategy.MctsPlayerStrategy;
+import strategy.MinimaxPlayerStrategy;
 import strategy.PlayerStrategy;
+import strategy.TablebasePlayerStrategy;
+import strategy.ThinkingOptions;
 
 import java.util.Scanner;
 
@@ -19,14 +26,14 @@ public class PlayerFactory {
         this.validationService = new ValidationService();
     }
 
-    public Player createPlayer(int playerNumber) throws GameException {
+    public Player createPlayer(int playerNumber, GridBoard board) throws GameException {
         System.out.println("\n=== Player " + playerNumber + " Configuration ===");
 
         String name = getPlayerName();
         char symbol = getPlayerSymbol();
-        PlayerType playerType = getPlayerType();
+        PlayerType playerType = board instanceof Board ? getPlayerType() : getGridPlayerType();
 
-        PlayerStrategy strategy = createPlayerStrategy(playerType);
+        PlayerStrategy strategy = createPlayerStrategy(playerType, board);
 
         return new Player(name, symbol, playerType, strategy);
     }
@@ -66,7 +73,8 @@ public class PlayerFactory {
     private PlayerType getPlayerType() {
         while (true) {
             try {
-                System.out.print("Player type (1 = Human, 2 = AI): ");
+                System.out.print("Player type (1 = Human, 2 = AI, 3 = Minimax AI, 4 = MCTS AI, 5 = Tablebase AI, "
+                        + "6 = Connect-k AI): ");
                 int choice = scanner.nextInt();
                 scanner.nextLine();
 
@@ -74,20 +82,53 @@ public class PlayerFactory {
                     return PlayerType.HUMAN;
                 } else if (choice == 2) {
                     return PlayerType.AI;
+                } else if (choice == 3) {
+                    return PlayerType.MINIMAX_AI;
+                } else if (choice == 4) {
+                    return PlayerType.MCTS_AI;
+                } else if (choice == 5) {
+                    return PlayerType.TABLEBASE_AI;
+                } else if (choice == 6) {
+                    return PlayerType.CONNECT_K_AI;
                 } else {
-                    System.out.println("Invalid choice. Please enter 1 or 2.");
+                    System.out.println("Invalid choice. Please enter 1-6.");
                 }
             } catch (Exception e) {
-                System.out.println("Invalid input. Please enter 1 or 2.");
+                System.out.println("Invalid input. Please enter 1-6.");
                 scanner.nextLine();
             }
         }
     }
 
-    private PlayerStrategy createPlayerStrategy(PlayerType playerType) {
+    private PlayerType getGridPlayerType() {
+        while (true) {
+            try {
+                System.out.print("Player type (1 = Human, 2 = Connect-k AI): ");
+                int choice = scanner.nextInt();
+                scanner.nextLine();
+
+                if (choice == 1) {
+                    return PlayerType.HUMAN;
+                } else if (choice == 2) {
+                    return PlayerType.CONNECT_K_AI;
+                } else {
+                    System.out.println("Invalid choice. Please enter 1-2.");
+                }
+            } catch (Exception e) {
+                System.out.println("Invalid input. Please enter 1-2.");
+                scanner.nextLine();
+            }
+        }
+    }
+
+    private PlayerStrategy createPlayerStrategy(PlayerType playerType, GridBoard board) {
         return switch (playerType) {
             case HUMAN -> new HumanPlayerStrategy(scanner);
             case AI -> new AIPlayerStrategy();
+            case MINIMAX_AI -> new MinimaxPlayerStrategy(ThinkingOptions.PONDERING);
+            case MCTS_AI -> new MctsPlayerStrategy();
+            case TABLEBASE_AI -> new TablebasePlayerStrategy(board.getRows(), board.getWinLength());
+            case CONNECT_K_AI -> new ConnectKPlayerStrategy();
         };
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package benchmark;
+
+import enums.PlayerType;
+import exception.GameException;
+import model.Board;
+import model.GameState;
+import model.Move;
+import model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import service.GameService;
+import strategy.AIPlayerStrategy;
+import strategy.DefaultWinningStrategy;
+import strategy.LineCounterWinningStrategy;
+import strategy.RandomPlayerStrategy;
+import strategy.ThinkingOptions;
+import strategy.WinningStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathBenchmarks {
+    private static final long SEED = 42L;
+
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    private Board halfFilled;
+    private int[] emptyCells;
+    private int emptyCursor;
+    private Board fillBoard;
+    private int[] fillOrder;
+    private Move[] filledMoves;
+    private int moveCursor;
+    private WinningStrategy defaultWinningStrategy;
+    private WinningStrategy lineCounterWinningStrategy;
+    private Player aiPlayer;
+    private GameService gameService;
+    private GameState gameState;
+
+    @Setup
+    public void setUp() throws GameException {
+        halfFilled = halfFilledBoard(size, new Random(SEED));
+        emptyCells = new int[halfFilled.getEmptyCount()];
+        for (int i = 0; i < emptyCells.length; i++) {
+            emptyCells[i] = halfFilled.getEmptyCell(i);
+        }
+
+        fillBoard = new Board(size);
+        fillBoard.registerSymbol('X');
+        fillBoard.registerSymbol('O');
+        fillOrder = shuffledCells(size * size, new Random(SEED));
+
+        Player[] players = {
+                new Player("X", 'X', PlayerType.AI, null),
+                new Player("O", 'O', PlayerType.AI, null)
+        };
+        List<Move> moves = new ArrayList<>();
+        for (int index = 0; index < halfFilled.getCellCount(); index++) {
+            int owner = halfFilled.getOwner(index);
+            if (owner >= 0) {
+                moves.add(new Move(players[owner], halfFilled.getCell(index)));
+            }
+        }
+        filledMoves = moves.toArray(new Move[0]);
+        defaultWinningStrategy = new DefaultWinningStrategy();
+        lineCounterWinningStrategy = new LineCounterWinningStrategy();
+
+        aiPlayer = new Player("X", 'X', PlayerType.AI,
+                new AIPlayerStrategy(new Random(SEED), ThinkingOptions.HEADLESS));
+
+        gameService = new GameService(new LineCounterWinningStrategy());
+        gameState = gameService.initializeGame(new Board(size), List.of(
+                new Player("AI", 'X', PlayerType.AI, new AIPlayerStrategy(new Random(SEED), ThinkingOptions.HEADLESS)),
+                new Player("Random", 'O', PlayerType.AI, new RandomPlayerStrategy(new Random(SEED + 1)))));
+    }
+
+    @Benchmark
+    public void makeUnmake(Blackhole blackhole) {
+        int index = emptyCells[emptyCursor++ % emptyCells.length];
+        halfFilled.makeMove(index, 0);
+        blackhole.consume(halfFilled.getHash());
+        blackhole.consume(halfFilled.unmakeMove());
+    }
+
+    @Benchmark
+    public void fillAndReset(Blackhole blackhole) {
+        for (int i = 0; i < fillOrder.length; i++) {
+            fillBoard.makeMove(fillOrder[i], i & 1);
+        }
+        blackhole.consume(fillBoard.getHash());
+        fillBoard.reset();
+    }
+
+    @Benchmark
+    public void getEmptyCells(Blackhole blackhole) {
+        blackhole.consume(halfFilled.getEmptyCells());
+    }
+
+    @Benchmark
+    public void defaultCheckWinner(Blackhole blackhole) {
+        blackhole.consume(defaultWinningStrategy.checkWinner(halfFilled, nextFilledMove()));
+    }
+
+    @Benchmark
+    public void lineCounterCheckWinner(Blackhole blackhole) {
+        blackhole.consume(lineCounterWinningStrategy.checkWinner(halfFilled, nextFilledMove()));
+    }
+
+    @Benchmark
+    public void aiMove(Blackhole blackhole) {
+        blackhole.consume(aiPlayer.makeMove(halfFilled));
+    }
+
+    @Benchmark
+    public void fullGame(Blackhole blackhole) {
+        gameService.resetGame(gameState);
+        while (!gameState.isGameOver()) {
+            gameService.playTurn(gameState);
+        }
+        blackhole.consume(gameState.getMoveCount());
+        blackhole.consume(gameState.getStatus());
+    }
+
+    private Move nextFilledMove() {
+        return filledMoves[moveCursor++ % filledMoves.length];
+    }
+
+    private static Board halfFilledBoard(int size, Random random) {
+        Board board = new Board(size);
+        board.registerSymbol('X');
+        board.registerSymbol('O');
+        int[] order = shuffledCells(size * size, random);
+        for (int i = 0; i < order.length / 2; i++) {
+            board.makeMove(order[i], i & 1);
+        }
+        return board;
+    }
+
+    private static int[] shuffledCells(int cellCount, Random random) {
+        int[] cells = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            cells[i] = i;
+        }
+        for (int i = cellCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = cells[i];
+            cells[i] = cells[j];
+            cells[j] = swap;
+        }
+        return cells;
+    }
+}
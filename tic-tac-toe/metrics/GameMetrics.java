@@ -0,0 +1,217 @@
+package metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class GameMetrics implements GameMetricsMXBean {
+    public static final boolean ENABLED = Boolean.getBoolean("tictactoe.metrics");
+    public static final String OBJECT_NAME = "tictactoe:type=GameMetrics";
+
+    private final LatencyHistogram turnLatency = new LatencyHistogram();
+    private final LatencyHistogram strategyLatency = new LatencyHistogram();
+    private final LatencyHistogram winCheckLatency = new LatencyHistogram();
+    private final LongAdder turnAllocatedBytes = new LongAdder();
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder gamesFinished = new LongAdder();
+    private final LongAdder searchNodes = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+    private final LongAdder tableProbes = new LongAdder();
+    private final LongAdder tableHits = new LongAdder();
+    private volatile long startNanos = System.nanoTime();
+
+    private GameMetrics() {
+    }
+
+    public static GameMetrics get() {
+        return Holder.INSTANCE;
+    }
+
+    public static long allocatedBytes() {
+        return Threads.BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    public void recordTurn(long nanos, long allocatedBytes) {
+        turnLatency.record(nanos);
+        turnAllocatedBytes.add(allocatedBytes);
+    }
+
+    public void recordStrategyMove(long nanos) {
+        strategyLatency.record(nanos);
+    }
+
+    public void recordWinCheck(long nanos) {
+        winCheckLatency.record(nanos);
+    }
+
+    public void gameStarted() {
+        gamesStarted.increment();
+    }
+
+    public void gameFinished() {
+        gamesFinished.increment();
+    }
+
+    public void recordSearch(long nodes, long nanos) {
+        searchNodes.add(nodes);
+        searchNanos.add(nanos);
+    }
+
+    public void recordTableProbe(boolean hit) {
+        tableProbes.increment();
+        if (hit) {
+            tableHits.increment();
+        }
+    }
+
+    @Override
+    public long getTurns() {
+        return turnLatency.getCount();
+    }
+
+    @Override
+    public double getMovesPerSecond() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds <= 0 ? 0 : turnLatency.getCount() / seconds;
+    }
+
+    @Override
+    public double getTurnMeanMicros() {
+        return turnLatency.getMeanNanos() / 1e3;
+    }
+
+    @Override
+    public double getTurnP50Micros() {
+        return turnLatency.getPercentileNanos(50) / 1e3;
+    }
+
+    @Override
+    public double getTurnP99Micros() {
+        return turnLatency.getPercentileNanos(99) / 1e3;
+    }
+
+    @Override
+    public double getTurnMaxMicros() {
+        return turnLatency.getMaxNanos() / 1e3;
+    }
+
+    @Override
+    public double getAllocatedBytesPerTurn() {
+        long turns = turnLatency.getCount();
+        return turns == 0 ? 0 : (double) turnAllocatedBytes.sum() / turns;
+    }
+
+    @Override
+    public long getActiveGames() {
+        return gamesStarted.sum() - gamesFinished.sum();
+    }
+
+    @Override
+    public long getGamesStarted() {
+        return gamesStarted.sum();
+    }
+
+    @Override
+    public long getGamesFinished() {
+        return gamesFinished.sum();
+    }
+
+    @Override
+    public long getStrategyMoves() {
+        return strategyLatency.getCount();
+    }
+
+    @Override
+    public double getStrategyMoveMeanMicros() {
+        return strategyLatency.getMeanNanos() / 1e3;
+    }
+
+    @Override
+    public double getStrategyMoveP99Micros() {
+        return strategyLatency.getPercentileNanos(99) / 1e3;
+    }
+
+    @Override
+    public long getWinChecks() {
+        return winCheckLatency.getCount();
+    }
+
+    @Override
+    public double getWinCheckMeanNanos() {
+        return winCheckLatency.getMeanNanos();
+    }
+
+    @Override
+    public double getWinCheckP99Nanos() {
+        return winCheckLatency.getPercentileNanos(99);
+    }
+
+    @Override
+    public long getSearchNodes() {
+        return searchNodes.sum();
+    }
+
+    @Override
+    public double getSearchNodesPerSecond() {
+        long nanos = searchNanos.sum();
+        return nanos == 0 ? 0 : searchNodes.sum() * 1e9 / nanos;
+    }
+
+    @Override
+    public long getTableProbes() {
+        return tableProbes.sum();
+    }
+
+    @Override
+    public double getTableHitRate() {
+        long probes = tableProbes.sum();
+        return probes == 0 ? 0 : (double) tableHits.sum() / probes;
+    }
+
+    @Override
+    public void reset() {
+        turnLatency.reset();
+        strategyLatency.reset();
+        winCheckLatency.reset();
+        turnAllocatedBytes.reset();
+        searchNodes.reset();
+        searchNanos.reset();
+        tableProbes.reset();
+        tableHits.reset();
+        startNanos = System.nanoTime();
+    }
+
+    public String summary() {
+        return String.format("turns=%d (%.0f/s) turn mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus alloc=%.0fB/turn"
+                        + " | active games=%d | strategy moves=%d mean=%.1fus p99=%.1fus"
+                        + " | win checks=%d mean=%.0fns p99=%.0fns | search nodes=%d (%.0f/s) tt hit rate=%.1f%%",
+                getTurns(), getMovesPerSecond(), getTurnMeanMicros(), getTurnP50Micros(), getTurnP99Micros(),
+                getTurnMaxMicros(), getAllocatedBytesPerTurn(), getActiveGames(), getStrategyMoves(),
+                getStrategyMoveMeanMicros(), getStrategyMoveP99Micros(), getWinChecks(), getWinCheckMeanNanos(),
+                getWinCheckP99Nanos(), getSearchNodes(), getSearchNodesPerSecond(), getTableHitRate() * 100);
+    }
+
+    private static final class Holder {
+        static final GameMetrics INSTANCE = new GameMetrics();
+
+        static {
+            if (ENABLED) {
+                try {
+                    ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+                } catch (JMException e) {
+                    System.err.println("Could not register " + OBJECT_NAME + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static final class Threads {
+        static final com.sun.management.ThreadMXBean BEAN =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        static {
+            BEAN.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+}
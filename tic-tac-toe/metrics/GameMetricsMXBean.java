@@ -0,0 +1,45 @@
+package metrics;
+
+public interface GameMetricsMXBean {
+    long getTurns();
+
+    double getMovesPerSecond();
+
+    double getTurnMeanMicros();
+
+    double getTurnP50Micros();
+
+    double getTurnP99Micros();
+
+    double getTurnMaxMicros();
+
+    double getAllocatedBytesPerTurn();
+
+    long getActiveGames();
+
+    long getGamesStarted();
+
+    long getGamesFinished();
+
+    long getStrategyMoves();
+
+    double getStrategyMoveMeanMicros();
+
+    double getStrategyMoveP99Micros();
+
+    long getWinChecks();
+
+    double getWinCheckMeanNanos();
+
+    double getWinCheckP99Nanos();
+
+    long getSearchNodes();
+
+    double getSearchNodesPerSecond();
+
+    long getTableProbes();
+
+    double getTableHitRate();
+
+    void reset();
+}
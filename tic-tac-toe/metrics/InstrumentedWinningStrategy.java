@@ -0,0 +1,38 @@
+package metrics;
+
+import model.Board;
+import model.Move;
+import strategy.WinningStrategy;
+
+public class InstrumentedWinningStrategy implements WinningStrategy {
+    private final WinningStrategy delegate;
+
+    public InstrumentedWinningStrategy(WinningStrategy delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean checkWinner(Board board, Move lastMove) {
+        long start = System.nanoTime();
+        boolean won = delegate.checkWinner(board, lastMove);
+        GameMetrics.get().recordWinCheck(System.nanoTime() - start);
+        return won;
+    }
+
+    @Override
+    public boolean checkWinner(Board board, int index) {
+        long start = System.nanoTime();
+        boolean won = delegate.checkWinner(board, index);
+        GameMetrics.get().recordWinCheck(System.nanoTime() - start);
+        return won;
+    }
+
+    @Override
+    public boolean isDraw(Board board) {
+        return delegate.isDraw(board);
+    }
+
+    public WinningStrategy getDelegate() {
+        return delegate;
+    }
+}
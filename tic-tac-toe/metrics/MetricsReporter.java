@@ -0,0 +1,35 @@
+package metrics;
+
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class MetricsReporter implements AutoCloseable {
+    private static final long DEFAULT_INTERVAL_SECONDS = 10;
+
+    private final ScheduledExecutorService scheduler;
+
+    public MetricsReporter(PrintStream out, long intervalSeconds) {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> out.println("[metrics] " + GameMetrics.get().summary()),
+                intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public static MetricsReporter startIfEnabled(PrintStream out) {
+        if (!GameMetrics.ENABLED) {
+            return null;
+        }
+        long interval = Long.getLong("tictactoe.metrics.interval", DEFAULT_INTERVAL_SECONDS);
+        return interval > 0 ? new MetricsReporter(out, interval) : null;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
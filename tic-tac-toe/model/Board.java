@@ -1,32 +1,134 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.random.RandomGenerator;
+
+public class Board implements GridBoard {
+    private static final int EMPTY = -1;
+    private static final int INITIAL_SLOTS = 2;
 
-public class Board {
     private final int size;
+    private final BoardGeometry geometry;
+    private final BoardSymmetry symmetry;
     private final Cell[][] cells;
+    private final Cell[] cellsByIndex;
+    private final int[] owners;
+    private final long[] occupied;
+    private final long[] hashes;
+    private final int[] moveStack;
+    private final int[] moveStackPositions;
+    private final int[] emptyCells;
+    private final int[] emptyPositions;
+    private BoardListener[] listeners;
+    private int moveStackSize;
+    private long[][] playerBits;
+    private long[][] zobristKeys;
+    private int[] lineCounts;
+    private final int[] lineTotals;
+    private final int[] lineOwnerCounts;
+    private final int[] openLinesByMissing;
+    private long openMissingMask;
+    private char[] slotSymbols;
+    private int slotCount;
     private int filledCells;
 
     public Board(int size) {
+        this(size, size);
+    }
+
+    public Board(int size, int winLength) {
         this.size = size;
+        this.geometry = BoardGeometry.of(size, winLength);
+        this.symmetry = BoardSymmetry.of(size);
         this.cells = new Cell[size][size];
+        this.cellsByIndex = new Cell[geometry.getCellCount()];
+        this.owners = new int[geometry.getCellCount()];
+        this.occupied = new long[geometry.getWords()];
+        this.playerBits = new long[INITIAL_SLOTS][geometry.getWords()];
+        this.zobristKeys = new long[INITIAL_SLOTS][];
+        this.lineCounts = new int[INITIAL_SLOTS * geometry.getLineCount()];
+        this.lineTotals = new int[geometry.getLineCount()];
+        this.lineOwnerCounts = new int[geometry.getLineCount()];
+        this.openLinesByMissing = new int[winLength + 1];
+        this.slotSymbols = new char[INITIAL_SLOTS];
+        this.slotCount = 0;
         this.filledCells = 0;
+        this.hashes = new long[BoardSymmetry.TRANSFORM_COUNT];
+        this.moveStack = new int[geometry.getCellCount()];
+        this.moveStackPositions = new int[geometry.getCellCount()];
+        this.moveStackSize = 0;
+        this.emptyCells = new int[geometry.getCellCount()];
+        this.emptyPositions = new int[geometry.getCellCount()];
+        this.listeners = new BoardListener[0];
         initializeBoard();
     }
 
     private void initializeBoard() {
+        Arrays.fill(owners, EMPTY);
+        Arrays.fill(moveStackPositions, EMPTY);
+        resetEmptyCells();
+        resetOpenLines();
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < size; j++) {
-                cells[i][j] = new Cell(i, j);
+                int index = i * size + j;
+                cells[i][j] = new Cell(this, i, j, index);
+                cellsByIndex[index] = cells[i][j];
+            }
+        }
+    }
+
+    public Board copy() {
+        Board copy = new Board(size, geometry.getWinLength());
+        for (int slot = 0; slot < slotCount; slot++) {
+            copy.registerSymbol(slotSymbols[slot]);
+        }
+        for (int index = 0; index < owners.length; index++) {
+            if (owners[index] != EMPTY) {
+                copy.place(index, owners[index]);
             }
         }
+        System.arraycopy(moveStack, 0, copy.moveStack, 0, moveStackSize);
+        System.arraycopy(moveStackPositions, 0, copy.moveStackPositions, 0, moveStackPositions.length);
+        copy.moveStackSize = moveStackSize;
+        return copy;
     }
 
     public int getSize() {
         return size;
     }
 
+    public int getWinLength() {
+        return geometry.getWinLength();
+    }
+
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    public BoardSymmetry getSymmetry() {
+        return symmetry;
+    }
+
+    public int getRows() {
+        return size;
+    }
+
+    public int getCols() {
+        return size;
+    }
+
+    public int getCellCount() {
+        return cellsByIndex.length;
+    }
+
+    public int indexOf(int row, int col) {
+        return row * size + col;
+    }
+
     public Cell getCell(int row, int col) {
         if (!isValidPosition(row, col)) {
             return null;
@@ -34,74 +136,410 @@ public class Board {
         return cells[row][col];
     }
 
+    public Cell getCell(int index) {
+        return cellsByIndex[index];
+    }
+
     public boolean isValidPosition(int row, int col) {
         return row >= 0 && row < size && col >= 0 && col < size;
     }
 
     public boolean isCellEmpty(int row, int col) {
-        Cell cell = getCell(row, col);
-        return cell != null && cell.isEmpty();
+        return isValidPosition(row, col) && isEmpty(row * size + col);
+    }
+
+    public boolean isEmpty(int index) {
+        return (occupied[index >>> 6] & (1L << index)) == 0;
+    }
+
+    public boolean isEmpty(int row, int col) {
+        return isEmpty(indexOf(row, col));
+    }
+
+    public int getOwner(int index) {
+        return owners[index];
+    }
+
+    public int getOwner(int row, int col) {
+        return owners[indexOf(row, col)];
+    }
+
+    public char getSymbolAt(int index) {
+        return slotSymbols[owners[index]];
+    }
+
+    public int registerSymbol(char symbol) {
+        int slot = getSlot(symbol);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (slotCount == slotSymbols.length) {
+            slotSymbols = Arrays.copyOf(slotSymbols, slotCount * 2);
+            playerBits = Arrays.copyOf(playerBits, slotCount * 2);
+            zobristKeys = Arrays.copyOf(zobristKeys, slotCount * 2);
+            lineCounts = Arrays.copyOf(lineCounts, slotCount * 2 * geometry.getLineCount());
+            for (int i = slotCount; i < playerBits.length; i++) {
+                playerBits[i] = new long[geometry.getWords()];
+            }
+        }
+        slotSymbols[slotCount] = symbol;
+        zobristKeys[slotCount] = ZobristKeys.cellKeys(cellsByIndex.length, symbol);
+        return slotCount++;
+    }
+
+    public int getSlot(char symbol) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotSymbols[slot] == symbol) {
+                return slot;
+            }
+        }
+        return EMPTY;
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public char getSlotSymbol(int slot) {
+        return slotSymbols[slot];
     }
 
     public void makeMove(Move move) {
         Cell cell = move.getCell();
-        cell.setSymbol(move.getPlayer().getSymbol());
+        makeMove(cell.getIndex(), registerSymbol(move.getPlayer().getSymbol()));
+    }
+
+    public void makeMove(int index, int slot) {
+        if (!isEmpty(index)) {
+            throw new IllegalStateException("Cell " + index + " is already occupied");
+        }
+        place(index, slot);
+        moveStackPositions[index] = moveStackSize;
+        moveStack[moveStackSize++] = index;
+    }
+
+    public void makeMove(int row, int col, int slot) {
+        makeMove(indexOf(row, col), slot);
+    }
+
+    public int unmakeMove() {
+        if (moveStackSize == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        int index = moveStack[--moveStackSize];
+        moveStackPositions[index] = EMPTY;
+        clear(index);
+        return index;
+    }
+
+    public int getMoveStackSize() {
+        return moveStackSize;
+    }
+
+    public int getLastMove() {
+        return moveStackSize == 0 ? -1 : moveStack[moveStackSize - 1];
+    }
+
+    public void place(int index, int slot) {
+        if (!isEmpty(index)) {
+            clear(index);
+        }
+        long bit = 1L << index;
+        int word = index >>> 6;
+        occupied[word] |= bit;
+        playerBits[slot][word] |= bit;
+        owners[index] = slot;
         filledCells++;
+        updateHashes(slot, index);
+        removeEmptyCell(index);
+
+        int offset = slot * geometry.getLineCount();
+        for (int line : geometry.getCellLines(index)) {
+            int lineOwners = lineOwnerCounts[line];
+            if (lineOwners <= 1) {
+                removeOpenLine(line);
+            }
+            if (lineCounts[offset + line]++ == 0) {
+                lineOwnerCounts[line] = ++lineOwners;
+            }
+            lineTotals[line]++;
+            if (lineOwners <= 1) {
+                addOpenLine(line);
+            }
+        }
+        for (BoardListener listener : listeners) {
+            listener.onPlace(index, slot);
+        }
+    }
+
+    public void clear(int index) {
+        if (isEmpty(index)) {
+            return;
+        }
+        if (moveStackPositions[index] != EMPTY) {
+            removeFromMoveStack(index);
+        }
+        int slot = owners[index];
+        long bit = ~(1L << index);
+        int word = index >>> 6;
+        occupied[word] &= bit;
+        playerBits[slot][word] &= bit;
+        owners[index] = EMPTY;
+        filledCells--;
+        updateHashes(slot, index);
+        restoreEmptyCell(index);
+
+        int offset = slot * geometry.getLineCount();
+        for (int line : geometry.getCellLines(index)) {
+            int lineOwners = lineOwnerCounts[line];
+            if (lineOwners <= 1) {
+                removeOpenLine(line);
+            }
+            if (--lineCounts[offset + line] == 0) {
+                lineOwnerCounts[line] = --lineOwners;
+            }
+            lineTotals[line]--;
+            if (lineOwners <= 1) {
+                addOpenLine(line);
+            }
+        }
+        for (BoardListener listener : listeners) {
+            listener.onClear(index, slot);
+        }
+    }
+
+    private void addOpenLine(int line) {
+        int missing = geometry.getLineLength(line) - lineTotals[line];
+        if (openLinesByMissing[missing]++ == 0) {
+            openMissingMask |= 1L << missing;
+        }
+    }
+
+    private void removeOpenLine(int line) {
+        int missing = geometry.getLineLength(line) - lineTotals[line];
+        if (--openLinesByMissing[missing] == 0) {
+            openMissingMask &= ~(1L << missing);
+        }
+    }
+
+    private void resetOpenLines() {
+        Arrays.fill(lineTotals, 0);
+        Arrays.fill(lineOwnerCounts, 0);
+        Arrays.fill(openLinesByMissing, 0);
+        openMissingMask = 0L;
+        for (int line = 0; line < lineTotals.length; line++) {
+            addOpenLine(line);
+        }
+    }
+
+    private void removeFromMoveStack(int index) {
+        int position = moveStackPositions[index];
+        moveStackPositions[index] = EMPTY;
+        moveStackSize--;
+        for (int i = position; i < moveStackSize; i++) {
+            moveStack[i] = moveStack[i + 1];
+            moveStackPositions[moveStack[i]] = i;
+        }
+    }
+
+    private void removeEmptyCell(int index) {
+        int position = emptyPositions[index];
+        int last = emptyCells[cellsByIndex.length - filledCells];
+        emptyCells[position] = last;
+        emptyPositions[last] = position;
+        emptyCells[cellsByIndex.length - filledCells] = index;
+    }
+
+    private void restoreEmptyCell(int index) {
+        int end = cellsByIndex.length - filledCells - 1;
+        int position = emptyPositions[index];
+        if (position < end) {
+            int moved = emptyCells[position];
+            emptyCells[end] = moved;
+            emptyPositions[moved] = end;
+        } else {
+            position = end;
+        }
+        emptyCells[position] = index;
+        emptyPositions[index] = position;
+    }
+
+    private void resetEmptyCells() {
+        for (int index = 0; index < emptyCells.length; index++) {
+            emptyCells[index] = index;
+            emptyPositions[index] = index;
+        }
+    }
+
+    public void addListener(BoardListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    public void removeListener(BoardListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                BoardListener[] remaining = new BoardListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                listeners = remaining;
+                return;
+            }
+        }
+    }
+
+    public boolean isWinningMove(int row, int col) {
+        int index = indexOf(row, col);
+        return owners[index] != EMPTY && hasCompleteLine(index, owners[index]);
+    }
+
+    public boolean hasCompleteLine(int index, int slot) {
+        long[] bits = playerBits[slot];
+        for (int line : geometry.getCellLines(index)) {
+            if (geometry.isLineCovered(line, bits)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void updateHashes(int slot, int index) {
+        long[] keys = zobristKeys[slot];
+        for (int transform = 0; transform < hashes.length; transform++) {
+            hashes[transform] ^= keys[symmetry.apply(transform, index)];
+        }
+    }
+
+    public long getHash() {
+        return hashes[BoardSymmetry.IDENTITY];
+    }
+
+    public long getHash(int transform) {
+        return hashes[transform];
+    }
+
+    public int getCanonicalTransform() {
+        int best = BoardSymmetry.IDENTITY;
+        for (int transform = 1; transform < hashes.length; transform++) {
+            if (Long.compareUnsigned(hashes[transform], hashes[best]) < 0) {
+                best = transform;
+            }
+        }
+        return best;
+    }
+
+    public long getCanonicalHash() {
+        return hashes[getCanonicalTransform()];
+    }
+
+    public long getPlayerBits(int slot, int word) {
+        return playerBits[slot][word];
+    }
+
+    public int getLineCount(int slot, int line) {
+        return lineCounts[slot * geometry.getLineCount() + line];
+    }
+
+    public int getFewestMissingStones() {
+        return openMissingMask == 0 ? Integer.MAX_VALUE : Long.numberOfTrailingZeros(openMissingMask);
     }
 
     public boolean isFull() {
-        return filledCells == size * size;
+        return filledCells == cellsByIndex.length;
     }
 
-    public List<Cell> getEmptyCells() {
-        List<Cell> emptyCells = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                if (cells[i][j].isEmpty()) {
-                    emptyCells.add(cells[i][j]);
-                }
+    public int getFilledCount() {
+        return filledCells;
+    }
+
+    public int getStoneCount() {
+        return filledCells;
+    }
+
+    public void forEachStone(LongConsumer action) {
+        for (int index = 0; index < owners.length; index++) {
+            if (owners[index] != EMPTY) {
+                action.accept(GridBoard.coordinate(index / size, index % size));
             }
         }
-        return emptyCells;
+    }
+
+    public int getEmptyCount() {
+        return cellsByIndex.length - filledCells;
+    }
+
+    public int getEmptyCell(int position) {
+        return emptyCells[position];
+    }
+
+    public int getRandomEmptyCell(RandomGenerator random) {
+        int count = getEmptyCount();
+        return count == 0 ? -1 : emptyCells[random.nextInt(count)];
+    }
+
+    public void forEachEmptyCell(IntConsumer action) {
+        for (int position = 0, count = getEmptyCount(); position < count; position++) {
+            action.accept(emptyCells[position]);
+        }
+    }
+
+    public List<Cell> getEmptyCells() {
+        int count = getEmptyCount();
+        List<Cell> cells = new ArrayList<>(count);
+        for (int position = 0; position < count; position++) {
+            cells.add(cellsByIndex[emptyCells[position]]);
+        }
+        return cells;
     }
 
     public void reset() {
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                cells[i][j].reset();
-            }
+        Arrays.fill(occupied, 0L);
+        for (int slot = 0; slot < slotCount; slot++) {
+            Arrays.fill(playerBits[slot], 0L);
         }
+        Arrays.fill(owners, EMPTY);
+        Arrays.fill(lineCounts, 0);
+        resetOpenLines();
         filledCells = 0;
+        moveStackSize = 0;
+        Arrays.fill(moveStackPositions, EMPTY);
+        resetEmptyCells();
+        Arrays.fill(hashes, 0L);
+        for (BoardListener listener : listeners) {
+            listener.onReset();
+        }
     }
 
     public void display() {
-        System.out.println("\n   " + createColumnHeaders());
-        System.out.println("  " + createHorizontalLine());
+        int width = String.valueOf(size - 1).length();
+        String margin = " ".repeat(width + 1);
+        System.out.println("\n" + margin + " " + createColumnHeaders(width));
+        System.out.println(margin + createHorizontalLine(width));
 
         for (int i = 0; i < size; i++) {
-            System.out.print(i + " |");
+            System.out.print(String.format("%" + width + "d", i) + " |");
             for (int j = 0; j < size; j++) {
-                System.out.print(" " + cells[i][j] + " |");
+                System.out.print(" ".repeat(width) + cells[i][j] + " |");
             }
             System.out.println();
-            System.out.println("  " + createHorizontalLine());
+            System.out.println(margin + createHorizontalLine(width));
         }
         System.out.println();
     }
 
-    private String createColumnHeaders() {
+    private String createColumnHeaders(int width) {
         StringBuilder header = new StringBuilder();
         for (int i = 0; i < size; i++) {
-            header.append(i).append("   ");
+            header.append(String.format("%" + width + "d", i)).append("   ");
         }
         return header.toString();
     }
 
-    private String createHorizontalLine() {
-        return "---".repeat(size) + "-".repeat(size + 1);
+    private String createHorizontalLine(int width) {
+        return "-".repeat(width + 2).repeat(size) + "-".repeat(size + 1);
     }
 
     public Cell[][] getCells() {
         return cells;
     }
-}
\ No newline at end of file
+}
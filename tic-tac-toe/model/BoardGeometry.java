@@ -0,0 +1,142 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class BoardGeometry {
+    private static final ConcurrentMap<Integer, BoardGeometry> CACHE = new ConcurrentHashMap<>();
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    private final int size;
+    private final int winLength;
+    private final int cellCount;
+    private final int words;
+    private final long[] cellMask;
+    private final long[] lineMasks;
+    private final int[][] lineCells;
+    private final int[][] cellLines;
+
+    private BoardGeometry(int size, int winLength) {
+        this.size = size;
+        this.winLength = winLength;
+        this.cellCount = size * size;
+        this.words = (cellCount + 63) >>> 6;
+        this.cellMask = new long[words];
+        for (int index = 0; index < cellCount; index++) {
+            cellMask[index >>> 6] |= 1L << index;
+        }
+        this.lineCells = buildLines(size, winLength);
+        this.lineMasks = new long[lineCells.length * words];
+        for (int line = 0; line < lineCells.length; line++) {
+            for (int index : lineCells[line]) {
+                lineMasks[line * words + (index >>> 6)] |= 1L << index;
+            }
+        }
+        this.cellLines = buildCellLines(cellCount, lineCells);
+    }
+
+    public static BoardGeometry of(int size) {
+        return of(size, size);
+    }
+
+    public static BoardGeometry of(int size, int winLength) {
+        if (winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException(
+                String.format("Win length %d does not fit a %dx%d board", winLength, size, size));
+        }
+        return CACHE.computeIfAbsent(size << 16 | winLength, key -> new BoardGeometry(size, winLength));
+    }
+
+    private static int[][] buildLines(int size, int winLength) {
+        List<int[]> lines = new ArrayList<>();
+        for (int[] direction : DIRECTIONS) {
+            int rowStep = direction[0];
+            int colStep = direction[1];
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int lastRow = row + rowStep * (winLength - 1);
+                    int lastCol = col + colStep * (winLength - 1);
+                    if (lastRow >= size || lastCol < 0 || lastCol >= size) {
+                        continue;
+                    }
+                    int[] line = new int[winLength];
+                    for (int i = 0; i < winLength; i++) {
+                        line[i] = (row + rowStep * i) * size + col + colStep * i;
+                    }
+                    lines.add(line);
+                }
+            }
+        }
+        return lines.toArray(new int[0][]);
+    }
+
+    private static int[][] buildCellLines(int cellCount, int[][] lineCells) {
+        int[] counts = new int[cellCount];
+        for (int[] line : lineCells) {
+            for (int index : line) {
+                counts[index]++;
+            }
+        }
+        int[][] result = new int[cellCount][];
+        for (int index = 0; index < cellCount; index++) {
+            result[index] = new int[counts[index]];
+            counts[index] = 0;
+        }
+        for (int line = 0; line < lineCells.length; line++) {
+            for (int index : lineCells[line]) {
+                result[index][counts[index]++] = line;
+            }
+        }
+        return result;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    public int getWords() {
+        return words;
+    }
+
+    public int getLineCount() {
+        return lineCells.length;
+    }
+
+    public int getLineLength(int line) {
+        return lineCells[line].length;
+    }
+
+    // Returned arrays are shared between all boards of this size and must not be modified.
+    public int[] getLineCells(int line) {
+        return lineCells[line];
+    }
+
+    public int[] getCellLines(int index) {
+        return cellLines[index];
+    }
+
+    public long getCellMask(int word) {
+        return cellMask[word];
+    }
+
+    public boolean isLineCovered(int line, long[] bits) {
+        int offset = line * words;
+        for (int word = 0; word < words; word++) {
+            long mask = lineMasks[offset + word];
+            if ((bits[word] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
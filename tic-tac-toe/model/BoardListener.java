@@ -0,0 +1,9 @@
+package model;
+
+public interface BoardListener {
+    void onPlace(int index, int slot);
+
+    void onClear(int index, int slot);
+
+    void onReset();
+}
@@ -0,0 +1,68 @@
+package model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class BoardSymmetry {
+    public static final int IDENTITY = 0;
+    public static final int TRANSFORM_COUNT = 8;
+
+    private static final ConcurrentMap<Integer, BoardSymmetry> CACHE = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final int[][] forward;
+    private final int[][] inverse;
+
+    private BoardSymmetry(int size) {
+        this.size = size;
+        int cellCount = size * size;
+        this.forward = new int[TRANSFORM_COUNT][cellCount];
+        this.inverse = new int[TRANSFORM_COUNT][cellCount];
+        for (int transform = 0; transform < TRANSFORM_COUNT; transform++) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int from = row * size + col;
+                    int to = map(transform, row, col);
+                    forward[transform][from] = to;
+                    inverse[transform][to] = from;
+                }
+            }
+        }
+    }
+
+    public static BoardSymmetry of(int size) {
+        return CACHE.computeIfAbsent(size, BoardSymmetry::new);
+    }
+
+    private int map(int transform, int row, int col) {
+        int last = size - 1;
+        return switch (transform) {
+            case 0 -> row * size + col;
+            case 1 -> col * size + (last - row);
+            case 2 -> (last - row) * size + (last - col);
+            case 3 -> (last - col) * size + row;
+            case 4 -> row * size + (last - col);
+            case 5 -> (last - row) * size + col;
+            case 6 -> col * size + row;
+            case 7 -> (last - col) * size + (last - row);
+            default -> throw new IllegalArgumentException("Unknown transform " + transform);
+        };
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int apply(int transform, int index) {
+        return forward[transform][index];
+    }
+
+    public int invert(int transform, int index) {
+        return inverse[transform][index];
+    }
+
+    // Shared permutation table; index i moves to table[i] under the transform.
+    public int[] getPermutation(int transform) {
+        return forward[transform];
+    }
+}
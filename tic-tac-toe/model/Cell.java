@@ -3,16 +3,16 @@ package model;
 import enums.CellState;
 
 public class Cell {
+    private final Board board;
     private final int row;
     private final int col;
-    private CellState state;
-    private Character symbol;
+    private final int index;
 
-    public Cell(int row, int col) {
+    Cell(Board board, int row, int col, int index) {
+        this.board = board;
         this.row = row;
         this.col = col;
-        this.state = CellState.EMPTY;
-        this.symbol = null;
+        this.index = index;
     }
 
     public int getRow() {
@@ -23,30 +23,36 @@ public class Cell {
         return col;
     }
 
+    public int getIndex() {
+        return index;
+    }
+
     public CellState getState() {
-        return state;
+        return board.isEmpty(index) ? CellState.EMPTY : CellState.FILLED;
     }
 
     public Character getSymbol() {
-        return symbol;
+        return board.isEmpty(index) ? null : board.getSymbolAt(index);
     }
 
     public void setSymbol(Character symbol) {
-        this.symbol = symbol;
-        this.state = CellState.FILLED;
+        if (symbol == null) {
+            board.clear(index);
+            return;
+        }
+        board.place(index, board.registerSymbol(symbol));
     }
 
     public boolean isEmpty() {
-        return state == CellState.EMPTY;
+        return board.isEmpty(index);
     }
 
     public void reset() {
-        this.symbol = null;
-        this.state = CellState.EMPTY;
+        board.clear(index);
     }
 
     @Override
     public String toString() {
-        return symbol != null ? symbol.toString() : " ";
+        return isEmpty() ? " " : String.valueOf(board.getSymbolAt(index));
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,9 @@ package model;
 
 import enums.GameStatus;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 public class GameState {
@@ -12,6 +14,7 @@ public class GameState {
     private Player currentPlayer;
     private Player winner;
     private final List<Move> moveHistory;
+    private final Deque<Move> redoMoves;
     private int currentPlayerIndex;
 
     public GameState(Board board, List<Player> players) {
@@ -21,13 +24,25 @@ public class GameState {
         this.currentPlayerIndex = 0;
         this.currentPlayer = players.get(currentPlayerIndex);
         this.moveHistory = new ArrayList<>();
+        this.redoMoves = new ArrayDeque<>();
         this.winner = null;
+        for (Player player : this.players) {
+            board.registerSymbol(player.getSymbol());
+        }
     }
 
     public Board getBoard() {
         return board;
     }
 
+    public long getPositionHash() {
+        return board.getHash();
+    }
+
+    public long getCanonicalPositionHash() {
+        return board.getCanonicalHash();
+    }
+
     public List<Player> getPlayers() {
         return new ArrayList<>(players);
     }
@@ -63,6 +78,42 @@ public class GameState {
 
     public void addMove(Move move) {
         moveHistory.add(move);
+        if (redoMoves.peek() == move) {
+            redoMoves.pop();
+        } else {
+            redoMoves.clear();
+        }
+    }
+
+    public Move undoMove() {
+        if (moveHistory.isEmpty()) {
+            return null;
+        }
+        Move move = moveHistory.remove(moveHistory.size() - 1);
+        board.unmakeMove();
+        if (isGameOver()) {
+            status = GameStatus.IN_PROGRESS;
+            winner = null;
+        } else {
+            currentPlayerIndex = (currentPlayerIndex + players.size() - 1) % players.size();
+            currentPlayer = players.get(currentPlayerIndex);
+        }
+        redoMoves.push(move);
+        return move;
+    }
+
+    public Move peekRedoMove() {
+        return redoMoves.peek();
+    }
+
+    public void reset() {
+        board.reset();
+        moveHistory.clear();
+        redoMoves.clear();
+        currentPlayerIndex = 0;
+        currentPlayer = players.get(currentPlayerIndex);
+        status = GameStatus.IN_PROGRESS;
+        winner = null;
     }
 
     public boolean isGameOver() {
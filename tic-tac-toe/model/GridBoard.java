@@ -0,0 +1,53 @@
+package model;
+
+import java.util.function.LongConsumer;
+
+public interface GridBoard {
+    int UNBOUNDED = 0;
+
+    static long coordinate(int row, int col) {
+        return (long) row << 32 | (col & 0xFFFFFFFFL);
+    }
+
+    static int rowOf(long coordinate) {
+        return (int) (coordinate >> 32);
+    }
+
+    static int colOf(long coordinate) {
+        return (int) coordinate;
+    }
+
+    int getRows();
+
+    int getCols();
+
+    int getWinLength();
+
+    boolean isValidPosition(int row, int col);
+
+    int registerSymbol(char symbol);
+
+    int getSlotCount();
+
+    char getSlotSymbol(int slot);
+
+    int getOwner(int row, int col);
+
+    boolean isEmpty(int row, int col);
+
+    void makeMove(int row, int col, int slot);
+
+    boolean isWinningMove(int row, int col);
+
+    int getStoneCount();
+
+    void forEachStone(LongConsumer action);
+
+    boolean isFull();
+
+    long getHash();
+
+    void reset();
+
+    void display();
+}
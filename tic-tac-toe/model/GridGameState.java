@@ -0,0 +1,75 @@
+package model;
+
+import enums.GameStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GridGameState {
+    private final GridBoard board;
+    private final List<Player> players;
+    private GameStatus status;
+    private Player currentPlayer;
+    private Player winner;
+    private int currentPlayerIndex;
+
+    public GridGameState(GridBoard board, List<Player> players) {
+        this.board = board;
+        this.players = new ArrayList<>(players);
+        this.status = GameStatus.IN_PROGRESS;
+        this.currentPlayerIndex = 0;
+        this.currentPlayer = players.get(currentPlayerIndex);
+        for (Player player : this.players) {
+            board.registerSymbol(player.getSymbol());
+        }
+    }
+
+    public GridBoard getBoard() {
+        return board;
+    }
+
+    public List<Player> getPlayers() {
+        return new ArrayList<>(players);
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(GameStatus status) {
+        this.status = status;
+    }
+
+    public Player getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public void switchPlayer() {
+        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        currentPlayer = players.get(currentPlayerIndex);
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    public void setWinner(Player winner) {
+        this.winner = winner;
+    }
+
+    public void reset() {
+        board.reset();
+        currentPlayerIndex = 0;
+        currentPlayer = players.get(currentPlayerIndex);
+        status = GameStatus.IN_PROGRESS;
+        winner = null;
+    }
+
+    public boolean isGameOver() {
+        return status != GameStatus.IN_PROGRESS;
+    }
+
+    public int getMoveCount() {
+        return board.getStoneCount();
+    }
+}
@@ -1,6 +1,7 @@
 package model;
 
 import enums.PlayerType;
+import metrics.GameMetrics;
 import strategy.PlayerStrategy;
 
 public class Player {
@@ -28,8 +29,18 @@ public class Player {
         return playerType;
     }
 
+    public PlayerStrategy getPlayerStrategy() {
+        return playerStrategy;
+    }
+
     public Move makeMove(Board board) {
-        return playerStrategy.makeMove(this, board);
+        if (!GameMetrics.ENABLED) {
+            return playerStrategy.makeMove(this, board);
+        }
+        long start = System.nanoTime();
+        Move move = playerStrategy.makeMove(this, board);
+        GameMetrics.get().recordStrategyMove(System.nanoTime() - start);
+        return move;
     }
 
     @Override
@@ -0,0 +1,291 @@
+package model;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+public class SparseBoard implements GridBoard {
+    private static final int EMPTY = -1;
+    private static final int DISPLAY_MARGIN = 2;
+    private static final int FULL_DISPLAY_LIMIT = 19;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_SLOTS = 2;
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    private final int rows;
+    private final int cols;
+    private final int winLength;
+    private long[] keys;
+    private int[] owners;
+    private int mask;
+    private long[] moveStack;
+    private int stoneCount;
+    private char[] slotSymbols;
+    private int slotCount;
+    private long hash;
+
+    public SparseBoard(int winLength) {
+        this(UNBOUNDED, UNBOUNDED, winLength);
+    }
+
+    public SparseBoard(int rows, int cols, int winLength) {
+        this.rows = rows;
+        this.cols = cols;
+        this.winLength = winLength;
+        this.keys = new long[INITIAL_CAPACITY];
+        this.owners = new int[INITIAL_CAPACITY];
+        this.mask = INITIAL_CAPACITY - 1;
+        this.moveStack = new long[INITIAL_CAPACITY];
+        this.slotSymbols = new char[INITIAL_SLOTS];
+        Arrays.fill(owners, EMPTY);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public boolean isUnbounded() {
+        return rows == UNBOUNDED || cols == UNBOUNDED;
+    }
+
+    public boolean isValidPosition(int row, int col) {
+        return (rows == UNBOUNDED || (row >= 0 && row < rows))
+                && (cols == UNBOUNDED || (col >= 0 && col < cols));
+    }
+
+    public int registerSymbol(char symbol) {
+        int slot = getSlot(symbol);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (slotCount == slotSymbols.length) {
+            slotSymbols = Arrays.copyOf(slotSymbols, slotCount * 2);
+        }
+        slotSymbols[slotCount] = symbol;
+        return slotCount++;
+    }
+
+    public int getSlot(char symbol) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotSymbols[slot] == symbol) {
+                return slot;
+            }
+        }
+        return EMPTY;
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public char getSlotSymbol(int slot) {
+        return slotSymbols[slot];
+    }
+
+    public int getOwner(int row, int col) {
+        return owners[find(GridBoard.coordinate(row, col))];
+    }
+
+    public boolean isEmpty(int row, int col) {
+        return getOwner(row, col) == EMPTY;
+    }
+
+    public void makeMove(int row, int col, int slot) {
+        if (!isValidPosition(row, col)) {
+            throw new IllegalArgumentException(String.format("Position (%d, %d) is off the board", row, col));
+        }
+        long coordinate = GridBoard.coordinate(row, col);
+        int position = find(coordinate);
+        if (owners[position] != EMPTY) {
+            throw new IllegalStateException(String.format("Cell (%d, %d) is already occupied", row, col));
+        }
+        keys[position] = coordinate;
+        owners[position] = slot;
+        hash ^= ZobristKeys.coordinateKey(coordinate, slotSymbols[slot]);
+
+        if (stoneCount == moveStack.length) {
+            moveStack = Arrays.copyOf(moveStack, stoneCount * 2);
+        }
+        moveStack[stoneCount++] = coordinate;
+        if (stoneCount * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    public long unmakeMove() {
+        if (stoneCount == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        long coordinate = moveStack[--stoneCount];
+        int position = find(coordinate);
+        hash ^= ZobristKeys.coordinateKey(coordinate, slotSymbols[owners[position]]);
+        remove(position);
+        return coordinate;
+    }
+
+    public boolean isWinningMove(int row, int col) {
+        int slot = getOwner(row, col);
+        if (slot == EMPTY) {
+            return false;
+        }
+        for (int[] direction : DIRECTIONS) {
+            int count = 1
+                    + countRun(row, col, direction[0], direction[1], slot)
+                    + countRun(row, col, -direction[0], -direction[1], slot);
+            if (count >= winLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int countRun(int row, int col, int rowStep, int colStep, int slot) {
+        int count = 0;
+        while (count < winLength - 1) {
+            row += rowStep;
+            col += colStep;
+            if (owners[find(GridBoard.coordinate(row, col))] != slot) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    public int getStoneCount() {
+        return stoneCount;
+    }
+
+    public long getMove(int ply) {
+        return moveStack[ply];
+    }
+
+    public long getLastMove() {
+        return moveStack[stoneCount - 1];
+    }
+
+    public void forEachStone(LongConsumer action) {
+        for (int ply = 0; ply < stoneCount; ply++) {
+            action.accept(moveStack[ply]);
+        }
+    }
+
+    public boolean isFull() {
+        return !isUnbounded() && stoneCount == (long) rows * cols;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public void reset() {
+        Arrays.fill(owners, EMPTY);
+        stoneCount = 0;
+        hash = 0;
+    }
+
+    public void display() {
+        int top = rows == UNBOUNDED ? 0 : rows / 2;
+        int left = cols == UNBOUNDED ? 0 : cols / 2;
+        int bottom = top;
+        int right = left;
+        if (stoneCount > 0) {
+            top = Integer.MAX_VALUE;
+            left = Integer.MAX_VALUE;
+            bottom = Integer.MIN_VALUE;
+            right = Integer.MIN_VALUE;
+            for (int ply = 0; ply < stoneCount; ply++) {
+                int row = GridBoard.rowOf(moveStack[ply]);
+                int col = GridBoard.colOf(moveStack[ply]);
+                top = Math.min(top, row);
+                bottom = Math.max(bottom, row);
+                left = Math.min(left, col);
+                right = Math.max(right, col);
+            }
+        }
+        top -= DISPLAY_MARGIN;
+        left -= DISPLAY_MARGIN;
+        bottom += DISPLAY_MARGIN;
+        right += DISPLAY_MARGIN;
+        if (rows != UNBOUNDED) {
+            top = rows <= FULL_DISPLAY_LIMIT ? 0 : Math.max(0, top);
+            bottom = rows <= FULL_DISPLAY_LIMIT ? rows - 1 : Math.min(rows - 1, bottom);
+        }
+        if (cols != UNBOUNDED) {
+            left = cols <= FULL_DISPLAY_LIMIT ? 0 : Math.max(0, left);
+            right = cols <= FULL_DISPLAY_LIMIT ? cols - 1 : Math.min(cols - 1, right);
+        }
+
+        int width = Math.max(Math.max(String.valueOf(top).length(), String.valueOf(bottom).length()),
+                Math.max(String.valueOf(left).length(), String.valueOf(right).length()));
+        StringBuilder header = new StringBuilder(" ".repeat(width + 2));
+        for (int col = left; col <= right; col++) {
+            header.append(String.format("%" + width + "d", col)).append("   ");
+        }
+        String line = " ".repeat(width + 1) + "-".repeat((width + 3) * (right - left + 1) + 1);
+        System.out.println("\n" + header);
+        System.out.println(line);
+        for (int row = top; row <= bottom; row++) {
+            StringBuilder text = new StringBuilder(String.format("%" + width + "d", row)).append(" |");
+            for (int col = left; col <= right; col++) {
+                int owner = getOwner(row, col);
+                text.append(" ".repeat(width)).append(owner == EMPTY ? ' ' : slotSymbols[owner]).append(" |");
+            }
+            System.out.println(text);
+            System.out.println(line);
+        }
+        System.out.println();
+    }
+
+    private int find(long coordinate) {
+        int position = mix(coordinate) & mask;
+        while (owners[position] != EMPTY && keys[position] != coordinate) {
+            position = (position + 1) & mask;
+        }
+        return position;
+    }
+
+    private void remove(int position) {
+        owners[position] = EMPTY;
+        int gap = position;
+        int next = (gap + 1) & mask;
+        while (owners[next] != EMPTY) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                owners[gap] = owners[next];
+                owners[next] = EMPTY;
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldOwners = owners;
+        keys = new long[capacity];
+        owners = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(owners, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldOwners[i] != EMPTY) {
+                int position = find(oldKeys[i]);
+                keys[position] = oldKeys[i];
+                owners[position] = oldOwners[i];
+            }
+        }
+    }
+
+    private static int mix(long coordinate) {
+        long value = (coordinate ^ (coordinate >>> 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (value >>> 32);
+    }
+}
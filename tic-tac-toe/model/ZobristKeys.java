@@ -0,0 +1,39 @@
+package model;
+
+public final class ZobristKeys {
+    private static final long SEED = 0x5DEECE66DL;
+
+    private ZobristKeys() {
+    }
+
+    public static long cellKey(int index, char symbol) {
+        return splitMix(SEED ^ ((long) symbol << 32) ^ index);
+    }
+
+    public static long coordinateKey(long coordinate, char symbol) {
+        return splitMix(splitMix(coordinate) ^ SEED ^ symbol);
+    }
+
+    public static long sideKey(int slot) {
+        return splitMix(~SEED ^ slot);
+    }
+
+    public static long geometryKey(int size, int winLength) {
+        return splitMix(splitMix(SEED + size) ^ winLength);
+    }
+
+    static long[] cellKeys(int cellCount, char symbol) {
+        long[] keys = new long[cellCount];
+        for (int index = 0; index < cellCount; index++) {
+            keys[index] = cellKey(index, symbol);
+        }
+        return keys;
+    }
+
+    private static long splitMix(long value) {
+        value += 0x9E3779B97F4A7C15L;
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
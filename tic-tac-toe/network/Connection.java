@@ -0,0 +1,100 @@
+package network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+class Connection {
+    static final int MAX_LINE_LENGTH = 128;
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(256);
+    private final StringBuilder currentLine = new StringBuilder();
+    private final Queue<ByteBuffer> pendingWrites = new ConcurrentLinkedQueue<>();
+    private long sessionId;
+    private char symbol;
+
+    Connection(SocketChannel channel, SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
+    }
+
+    SelectionKey getKey() {
+        return key;
+    }
+
+    long getSessionId() {
+        return sessionId;
+    }
+
+    char getSymbol() {
+        return symbol;
+    }
+
+    void attach(long sessionId, char symbol) {
+        this.sessionId = sessionId;
+        this.symbol = symbol;
+    }
+
+    boolean isAttached() {
+        return sessionId != 0;
+    }
+
+    void enqueue(String message) {
+        pendingWrites.add(ByteBuffer.wrap(message.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    boolean read(LineHandler handler) throws IOException {
+        int read = channel.read(readBuffer);
+        if (read < 0) {
+            return false;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining()) {
+            char c = (char) readBuffer.get();
+            if (c == '\n') {
+                String line = currentLine.toString().trim();
+                currentLine.setLength(0);
+                if (!line.isEmpty()) {
+                    handler.onLine(this, line);
+                }
+            } else if (c != '\r') {
+                if (currentLine.length() >= MAX_LINE_LENGTH) {
+                    return false;
+                }
+                currentLine.append(c);
+            }
+        }
+        readBuffer.clear();
+        return true;
+    }
+
+    boolean flush() throws IOException {
+        ByteBuffer buffer;
+        while ((buffer = pendingWrites.peek()) != null) {
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                return false;
+            }
+            pendingWrites.poll();
+        }
+        return true;
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    interface LineHandler {
+        void onLine(Connection connection, String line);
+    }
+}
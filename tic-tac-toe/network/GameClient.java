@@ -0,0 +1,45 @@
+package network;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+public class GameClient implements AutoCloseable {
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final OutputStream output;
+
+    public GameClient(String host, int port) throws IOException {
+        this.socket = new Socket(host, port);
+        this.socket.setTcpNoDelay(true);
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        this.output = socket.getOutputStream();
+    }
+
+    public void send(String command) throws IOException {
+        output.write((command + "\n").getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+    }
+
+    public String readLine() throws IOException {
+        return reader.readLine();
+    }
+
+    public String readUntil(String prefix) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith(prefix)) {
+                return line;
+            }
+        }
+        throw new IOException("Connection closed before a " + prefix + " line arrived");
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,312 @@
+package network;
+
+import enums.GameStatus;
+import enums.PlayerType;
+import exception.GameException;
+import metrics.MetricsReporter;
+import model.Board;
+import model.GameState;
+import model.Player;
+import persistence.GameJournal;
+import server.GameSession;
+import server.GameSessionManager;
+import server.SessionExecutors;
+import strategy.AIPlayerStrategy;
+import strategy.NetworkPlayerStrategy;
+import strategy.ThinkingOptions;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class GameServer implements AutoCloseable {
+    private static final char FIRST_SYMBOL = 'X';
+    private static final char SECOND_SYMBOL = 'O';
+    private static final int DEFAULT_PORT = 7777;
+    private static final int ACCEPT_BACKLOG = 1024;
+
+    private final int requestedPort;
+    private final GameSessionManager sessionManager;
+    private final Map<Long, AtomicReferenceArray<Connection>> seats = new ConcurrentHashMap<>();
+    private final Queue<Connection> writeRequests = new ConcurrentLinkedQueue<>();
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread loopThread;
+    private volatile boolean running;
+
+    public GameServer(int port, GameSessionManager sessionManager) {
+        this.requestedPort = port;
+        this.sessionManager = sessionManager;
+    }
+
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(requestedPort), ACCEPT_BACKLOG);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        loopThread = new Thread(this::runLoop, "game-server-selector");
+        loopThread.start();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                selector.select();
+                processWriteRequests();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        handleIo(key);
+                    }
+                }
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("Selector loop error: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key));
+        }
+    }
+
+    private void handleIo(SelectionKey key) {
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable() && !connection.read(this::handleLine)) {
+                disconnect(connection);
+                return;
+            }
+            if (key.isValid() && key.isWritable() && connection.flush()) {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+        }
+    }
+
+    private void processWriteRequests() {
+        Connection connection;
+        while ((connection = writeRequests.poll()) != null) {
+            SelectionKey key = connection.getKey();
+            try {
+                if (key.isValid() && !connection.flush()) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+            } catch (IOException e) {
+                disconnect(connection);
+            }
+        }
+    }
+
+    private void send(Connection connection, String message) {
+        connection.enqueue(message);
+        writeRequests.add(connection);
+        selector.wakeup();
+    }
+
+    private void handleLine(Connection connection, String line) {
+        String[] parts = line.split("\\s+");
+        try {
+            switch (parts[0].toUpperCase()) {
+                case "NEW" -> createGame(connection, parts);
+                case "JOIN" -> joinGame(connection, parts);
+                case "MOVE" -> submitMove(connection, parts);
+                case "STATE" -> sendState(connection);
+                case "QUIT" -> disconnect(connection);
+                default -> send(connection, "ERROR Unknown command " + parts[0] + "\n");
+            }
+        } catch (GameException e) {
+            send(connection, "ERROR " + e.getMessage() + "\n");
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            send(connection, "ERROR Malformed command: " + line + "\n");
+        }
+    }
+
+    private void createGame(Connection connection, String[] parts) throws GameException {
+        if (connection.isAttached()) {
+            throw new GameException("Already in game " + connection.getSessionId());
+        }
+        int size = Integer.parseInt(parts[1]);
+        boolean againstAi = parts.length < 3 || parts[2].equalsIgnoreCase("AI");
+
+        Player host = new Player("Player 1", FIRST_SYMBOL, PlayerType.HUMAN, new NetworkPlayerStrategy());
+        Player guest = againstAi
+                ? new Player("AI", SECOND_SYMBOL, PlayerType.AI,
+                    new AIPlayerStrategy(new Random(), ThinkingOptions.HEADLESS))
+                : new Player("Player 2", SECOND_SYMBOL, PlayerType.HUMAN, new NetworkPlayerStrategy());
+
+        int winLength = parts.length > 3 ? Integer.parseInt(parts[3]) : size;
+        GameSession session = sessionManager.createSession(size, winLength, List.of(host, guest));
+        seats.put(session.getId(), new AtomicReferenceArray<>(2));
+        seat(connection, session, 0, FIRST_SYMBOL);
+    }
+
+    private void joinGame(Connection connection, String[] parts) throws GameException {
+        if (connection.isAttached()) {
+            throw new GameException("Already in game " + connection.getSessionId());
+        }
+        long id = Long.parseLong(parts[1]);
+        GameSession session = sessionManager.getSession(id);
+        AtomicReferenceArray<Connection> gameSeats = seats.get(id);
+        if (gameSeats == null || gameSeats.get(1) != null) {
+            throw new GameException("Game " + id + " cannot be joined");
+        }
+        seat(connection, session, 1, SECOND_SYMBOL);
+    }
+
+    private void seat(Connection connection, GameSession session, int seat, char symbol) {
+        seats.get(session.getId()).set(seat, connection);
+        connection.attach(session.getId(), symbol);
+        session.setUpdateListener(state -> broadcast(session.getId(), render(state)));
+        send(connection, "GAME " + session.getId() + " " + symbol + "\n");
+        session.submit(this::render).thenAccept(state -> send(connection, state));
+    }
+
+    private void submitMove(Connection connection, String[] parts) throws GameException {
+        if (!connection.isAttached()) {
+            throw new GameException("Not in a game");
+        }
+        int row = Integer.parseInt(parts[1]);
+        int col = Integer.parseInt(parts[2]);
+        CompletableFuture<GameState> result =
+                sessionManager.submitMove(connection.getSessionId(), connection.getSymbol(), row, col);
+        result.whenComplete((state, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                send(connection, "ERROR " + cause.getMessage() + "\n");
+            }
+        });
+    }
+
+    private void sendState(Connection connection) throws GameException {
+        if (!connection.isAttached()) {
+            throw new GameException("Not in a game");
+        }
+        sessionManager.getSession(connection.getSessionId())
+                .submit(this::render)
+                .thenAccept(state -> send(connection, state));
+    }
+
+    private void broadcast(long sessionId, String message) {
+        AtomicReferenceArray<Connection> gameSeats = seats.get(sessionId);
+        if (gameSeats == null) {
+            return;
+        }
+        for (int seat = 0; seat < gameSeats.length(); seat++) {
+            Connection connection = gameSeats.get(seat);
+            if (connection != null) {
+                send(connection, message);
+            }
+        }
+    }
+
+    private String render(GameState state) {
+        Board board = state.getBoard();
+        StringBuilder message = new StringBuilder(board.getCellCount() + 32);
+        message.append("BOARD ").append(board.getSize()).append(' ');
+        for (int index = 0; index < board.getCellCount(); index++) {
+            message.append(board.isEmpty(index) ? '.' : board.getSymbolAt(index));
+        }
+        message.append('\n');
+        if (state.getStatus() == GameStatus.WON) {
+            message.append("RESULT WIN ").append(state.getWinner().getSymbol());
+        } else if (state.getStatus() == GameStatus.DRAW) {
+            message.append("RESULT DRAW");
+        } else {
+            message.append("TURN ").append(state.getCurrentPlayer().getSymbol());
+        }
+        return message.append('\n').toString();
+    }
+
+    private void disconnect(Connection connection) {
+        connection.close();
+        if (connection.isAttached()) {
+            long id = connection.getSessionId();
+            AtomicReferenceArray<Connection> gameSeats = seats.remove(id);
+            sessionManager.closeSession(id);
+            if (gameSeats != null) {
+                for (int seat = 0; seat < gameSeats.length(); seat++) {
+                    Connection other = gameSeats.get(seat);
+                    if (other != null && other != connection) {
+                        other.attach(0, ' ');
+                        send(other, "ERROR Opponent disconnected\n");
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        if (loopThread != null) {
+            try {
+                loopThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        if (selector != null) {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    connection.close();
+                }
+            }
+            selector.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameJournal journal = args.length > 1 ? new GameJournal(Path.of(args[1])) : null;
+        GameServer server = new GameServer(port,
+            new GameSessionManager(SessionExecutors.newSessionExecutor(), journal));
+        server.start();
+        MetricsReporter.startIfEnabled(System.out);
+        System.out.println("Tic-Tac-Toe server listening on port " + server.getPort());
+    }
+}
@@ -0,0 +1,154 @@
+package persistence;
+
+import enums.GameStatus;
+import model.Player;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class GameJournal implements AutoCloseable {
+    private static final int DEFAULT_GROUP_COMMIT_RECORDS = 64;
+    private static final long DEFAULT_GROUP_COMMIT_MILLIS = 10;
+    private static final int BUFFER_SIZE = 1 << 17;
+    private static final int MOVE_RECORD_MAX = JournalFormat.LENGTH_BYTES + 1 + 10 + 5;
+    private static final int RESULT_RECORD_MAX = JournalFormat.LENGTH_BYTES + 1 + 10 + 2;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final int groupCommitRecords;
+    private final boolean sync;
+    private final ScheduledExecutorService committer;
+    private int pendingRecords;
+    private boolean closed;
+
+    public GameJournal(Path path) throws IOException {
+        this(path, DEFAULT_GROUP_COMMIT_RECORDS, DEFAULT_GROUP_COMMIT_MILLIS, true);
+    }
+
+    public GameJournal(Path path, int groupCommitRecords, long groupCommitMillis, boolean sync) throws IOException {
+        long validLength = JournalReader.validLength(path);
+        this.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        channel.position(validLength);
+        this.groupCommitRecords = groupCommitRecords;
+        this.sync = sync;
+
+        if (groupCommitMillis > 0) {
+            committer = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "game-journal-commit");
+                thread.setDaemon(true);
+                return thread;
+            });
+            committer.scheduleWithFixedDelay(this::commitQuietly,
+                groupCommitMillis, groupCommitMillis, TimeUnit.MILLISECONDS);
+        } else {
+            committer = null;
+        }
+    }
+
+    public synchronized void recordGameCreated(long gameId, int boardSize, int winLength, List<Player> players)
+            throws IOException {
+        byte[][] names = JournalFormat.encodeNames(players);
+        int length = 1 + 10 + 5 + JournalFormat.maxPlayersLength(names) + 5;
+        if (length > JournalFormat.MAX_RECORD_LENGTH) {
+            throw new IllegalArgumentException("Game " + gameId + " is too large to journal");
+        }
+
+        int start = beginRecord(JournalFormat.LENGTH_BYTES + length, JournalFormat.GAME_CREATED, gameId);
+        JournalFormat.putVarLong(buffer, boardSize);
+        JournalFormat.putPlayers(buffer, players, names);
+        JournalFormat.putVarLong(buffer, winLength);
+        endRecord(start);
+    }
+
+    public synchronized void recordMove(long gameId, int cellIndex) throws IOException {
+        int start = beginRecord(MOVE_RECORD_MAX, JournalFormat.MOVE, gameId);
+        JournalFormat.putVarLong(buffer, cellIndex);
+        endRecord(start);
+    }
+
+    public synchronized void recordResult(long gameId, GameStatus status, int winnerSlot) throws IOException {
+        int start = beginRecord(RESULT_RECORD_MAX, JournalFormat.RESULT, gameId);
+        buffer.put((byte) status.ordinal());
+        buffer.put((byte) (winnerSlot < 0 ? JournalFormat.NO_WINNER : winnerSlot));
+        endRecord(start);
+    }
+
+    public synchronized void commit() throws IOException {
+        ensureOpen();
+        writeBuffer();
+        if (sync) {
+            channel.force(false);
+        }
+        pendingRecords = 0;
+    }
+
+    private int beginRecord(int maxLength, byte type, long gameId) throws IOException {
+        ensureOpen();
+        if (buffer.remaining() < maxLength) {
+            writeBuffer();
+        }
+        int start = buffer.position();
+        buffer.position(start + JournalFormat.LENGTH_BYTES);
+        buffer.put(type);
+        JournalFormat.putVarLong(buffer, gameId);
+        return start;
+    }
+
+    private void endRecord(int start) throws IOException {
+        buffer.putShort(start, (short) (buffer.position() - start - JournalFormat.LENGTH_BYTES));
+        pendingRecords++;
+        if (groupCommitRecords > 0 && pendingRecords >= groupCommitRecords) {
+            commit();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private synchronized void commitQuietly() {
+        if (closed || pendingRecords == 0) {
+            return;
+        }
+        try {
+            commit();
+        } catch (IOException e) {
+            System.err.println("Journal commit failed: " + e.getMessage());
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Journal is closed");
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (committer != null) {
+            committer.shutdownNow();
+        }
+        try {
+            commit();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+}
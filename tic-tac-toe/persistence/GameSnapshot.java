@@ -0,0 +1,158 @@
+package persistence;
+
+import enums.GameStatus;
+import enums.PlayerType;
+import exception.GameException;
+import model.Board;
+import model.GameState;
+import model.Move;
+import model.Player;
+import service.ValidationService;
+import strategy.PlayerStrategy;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Function;
+
+public final class GameSnapshot {
+    public static final int VERSION = 2;
+
+    private static final int VERSION_WITHOUT_WIN_LENGTH = 1;
+
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    private GameSnapshot() {
+    }
+
+    public static int maxEncodedSize(GameState gameState) {
+        Board board = gameState.getBoard();
+        List<Player> players = gameState.getPlayers();
+        int cellBits = board.getCellCount() * bitsPerCell(players.size());
+        return 1 + 5 + 5 + JournalFormat.maxPlayersLength(JournalFormat.encodeNames(players)) + 3
+                + (cellBits + 7) / 8 + 5 + gameState.getMoveCount() * 5;
+    }
+
+    public static byte[] encode(GameState gameState) {
+        ByteBuffer buffer = ByteBuffer.allocate(maxEncodedSize(gameState));
+        encode(gameState, buffer);
+        byte[] snapshot = new byte[buffer.position()];
+        buffer.flip().get(snapshot);
+        return snapshot;
+    }
+
+    public static void encode(GameState gameState, ByteBuffer buffer) {
+        Board board = gameState.getBoard();
+        List<Player> players = gameState.getPlayers();
+
+        buffer.put((byte) VERSION);
+        JournalFormat.putVarLong(buffer, board.getSize());
+        JournalFormat.putVarLong(buffer, board.getWinLength());
+        JournalFormat.putPlayers(buffer, players, JournalFormat.encodeNames(players));
+        buffer.put((byte) players.indexOf(gameState.getCurrentPlayer()));
+        buffer.put((byte) gameState.getStatus().ordinal());
+        int winner = gameState.getWinner() == null ? -1 : players.indexOf(gameState.getWinner());
+        buffer.put((byte) (winner < 0 ? JournalFormat.NO_WINNER : winner));
+
+        int bits = bitsPerCell(players.size());
+        long pending = 0;
+        int pendingBits = 0;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            pending |= (long) (board.getOwner(index) + 1) << pendingBits;
+            pendingBits += bits;
+            if (pendingBits >= Byte.SIZE) {
+                buffer.put((byte) pending);
+                pending >>>= Byte.SIZE;
+                pendingBits -= Byte.SIZE;
+            }
+        }
+        if (pendingBits > 0) {
+            buffer.put((byte) pending);
+        }
+
+        List<Move> history = gameState.getMoveHistory();
+        JournalFormat.putVarLong(buffer, history.size());
+        for (Move move : history) {
+            JournalFormat.putVarLong(buffer, move.getCell().getIndex());
+        }
+    }
+
+    public static GameState decode(ByteBuffer buffer, Function<PlayerType, PlayerStrategy> strategies)
+            throws GameException {
+        if (!buffer.hasRemaining()) {
+            throw new GameException("Empty game snapshot");
+        }
+        int version = Byte.toUnsignedInt(buffer.get(buffer.position()));
+        if (version != VERSION && version != VERSION_WITHOUT_WIN_LENGTH) {
+            throw new GameException("Unsupported snapshot version " + version);
+        }
+        try {
+            return read(buffer, strategies);
+        } catch (BufferUnderflowException | IllegalStateException | IndexOutOfBoundsException e) {
+            throw new GameException("Corrupt game snapshot", e);
+        }
+    }
+
+    private static GameState read(ByteBuffer buffer, Function<PlayerType, PlayerStrategy> strategies)
+            throws GameException {
+        int version = buffer.get();
+        int size = (int) JournalFormat.getVarLong(buffer);
+        int winLength = version == VERSION_WITHOUT_WIN_LENGTH ? size : (int) JournalFormat.getVarLong(buffer);
+        ValidationService validationService = new ValidationService();
+        validationService.validateBoardSize(size);
+        validationService.validateWinLength(size, winLength);
+        List<Player> players = JournalFormat.getPlayers(buffer, strategies);
+        int currentIndex = JournalFormat.checkOrdinal(buffer.get(), players.size());
+        GameStatus status = STATUSES[JournalFormat.checkOrdinal(buffer.get(), STATUSES.length)];
+        int winner = Byte.toUnsignedInt(buffer.get());
+
+        Board board = new Board(size, winLength);
+        GameState gameState = new GameState(board, players);
+
+        int bits = bitsPerCell(players.size());
+        int mask = (1 << bits) - 1;
+        int[] owners = new int[board.getCellCount()];
+        long pending = 0;
+        int pendingBits = 0;
+        for (int index = 0; index < owners.length; index++) {
+            if (pendingBits < bits) {
+                pending |= (long) Byte.toUnsignedInt(buffer.get()) << pendingBits;
+                pendingBits += Byte.SIZE;
+            }
+            int owner = (int) (pending & mask) - 1;
+            owners[index] = owner < 0 ? owner : JournalFormat.checkOrdinal(owner, players.size());
+            pending >>>= bits;
+            pendingBits -= bits;
+        }
+
+        int historySize = (int) JournalFormat.getVarLong(buffer);
+        for (int i = 0; i < historySize; i++) {
+            int index = (int) JournalFormat.getVarLong(buffer);
+            int owner = owners[index];
+            if (owner < 0) {
+                throw new IllegalStateException("History move on empty cell " + index);
+            }
+            owners[index] = -1;
+            board.makeMove(index, owner);
+            gameState.addMove(new Move(players.get(owner), board.getCell(index)));
+        }
+        for (int index = 0; index < owners.length; index++) {
+            if (owners[index] >= 0) {
+                board.place(index, owners[index]);
+            }
+        }
+
+        for (int i = 0; i < currentIndex; i++) {
+            gameState.switchPlayer();
+        }
+        gameState.setStatus(status);
+        if (winner != JournalFormat.NO_WINNER) {
+            gameState.setWinner(players.get(JournalFormat.checkOrdinal(winner, players.size())));
+        }
+        return gameState;
+    }
+
+    private static int bitsPerCell(int playerCount) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(playerCount);
+    }
+}
@@ -0,0 +1,102 @@
+package persistence;
+
+import enums.PlayerType;
+import model.Player;
+import strategy.PlayerStrategy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+final class JournalFormat {
+    static final byte GAME_CREATED = 1;
+    static final byte MOVE = 2;
+    static final byte RESULT = 3;
+
+    static final int LENGTH_BYTES = Short.BYTES;
+    static final int MAX_RECORD_LENGTH = 0xFFFF;
+    static final int NO_WINNER = 0xFF;
+    static final int MAX_PLAYERS = Byte.MAX_VALUE;
+
+    private static final PlayerType[] PLAYER_TYPES = PlayerType.values();
+
+    private JournalFormat() {
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    static byte[][] encodeNames(List<Player> players) {
+        if (players.size() > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Too many players: " + players.size());
+        }
+        byte[][] names = new byte[players.size()][];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = players.get(i).getName().getBytes(StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+
+    static int maxPlayersLength(byte[][] names) {
+        int length = 1;
+        for (byte[] name : names) {
+            length += Character.BYTES + 1 + 5 + name.length;
+        }
+        return length;
+    }
+
+    static void putPlayers(ByteBuffer buffer, List<Player> players, byte[][] names) {
+        buffer.put((byte) players.size());
+        for (int i = 0; i < names.length; i++) {
+            Player player = players.get(i);
+            buffer.putChar(player.getSymbol());
+            buffer.put((byte) player.getPlayerType().ordinal());
+            putVarLong(buffer, names[i].length);
+            buffer.put(names[i]);
+        }
+    }
+
+    static List<Player> getPlayers(ByteBuffer buffer, Function<PlayerType, PlayerStrategy> strategies) {
+        int playerCount = checkOrdinal(buffer.get(), MAX_PLAYERS + 1);
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            char symbol = buffer.getChar();
+            PlayerType playerType = PLAYER_TYPES[checkOrdinal(buffer.get(), PLAYER_TYPES.length)];
+            long nameLength = getVarLong(buffer);
+            if (nameLength > buffer.remaining()) {
+                throw new IllegalStateException("Malformed player name");
+            }
+            byte[] name = new byte[(int) nameLength];
+            buffer.get(name);
+            players.add(new Player(new String(name, StandardCharsets.UTF_8), symbol, playerType,
+                strategies == null ? null : strategies.apply(playerType)));
+        }
+        return players;
+    }
+
+    static int checkOrdinal(int ordinal, int count) {
+        if (ordinal < 0 || ordinal >= count) {
+            throw new IllegalStateException("Unknown ordinal " + ordinal);
+        }
+        return ordinal;
+    }
+}
@@ -0,0 +1,14 @@
+package persistence;
+
+import enums.GameStatus;
+import model.Player;
+
+import java.util.List;
+
+public interface JournalListener {
+    void onGameCreated(long gameId, int boardSize, int winLength, List<Player> players);
+
+    void onMove(long gameId, int cellIndex);
+
+    void onResult(long gameId, GameStatus status, int winnerSlot);
+}
@@ -0,0 +1,179 @@
+package persistence;
+
+import enums.GameStatus;
+import enums.PlayerType;
+import exception.GameException;
+import model.Board;
+import model.GameState;
+import model.Move;
+import model.Player;
+import service.GameService;
+import strategy.LineCounterWinningStrategy;
+import strategy.PlayerStrategy;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class JournalReader {
+    private static final long WINDOW_SIZE = 64L << 20;
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    private final Path path;
+    private final Function<PlayerType, PlayerStrategy> strategies;
+
+    public JournalReader(Path path) {
+        this(path, type -> null);
+    }
+
+    public JournalReader(Path path, Function<PlayerType, PlayerStrategy> strategies) {
+        this.path = path;
+        this.strategies = strategies;
+    }
+
+    public long read(JournalListener listener) throws IOException {
+        return scan(path, strategies, listener);
+    }
+
+    public Map<Long, GameState> replay() throws IOException {
+        Replay replay = new Replay(-1);
+        read(replay);
+        return replay.games;
+    }
+
+    public GameState replay(long gameId) throws IOException, GameException {
+        Replay replay = new Replay(gameId);
+        read(replay);
+        GameState gameState = replay.games.get(gameId);
+        if (gameState == null) {
+            throw new GameException("Game " + gameId + " is not in the journal");
+        }
+        return gameState;
+    }
+
+    static long validLength(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        return scan(path, type -> null, null);
+    }
+
+    private static long scan(Path path, Function<PlayerType, PlayerStrategy> strategies,
+                             JournalListener listener) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long offset = 0;
+            while (offset < size) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                    offset, Math.min(size - offset, WINDOW_SIZE));
+                int consumed = readRecords(window, strategies, listener);
+                if (consumed == 0) {
+                    break;
+                }
+                offset += consumed;
+            }
+            return offset;
+        }
+    }
+
+    private static int readRecords(ByteBuffer window, Function<PlayerType, PlayerStrategy> strategies,
+                                   JournalListener listener) {
+        while (window.remaining() >= JournalFormat.LENGTH_BYTES) {
+            int start = window.position();
+            int length = Short.toUnsignedInt(window.getShort(start));
+            int end = start + JournalFormat.LENGTH_BYTES + length;
+            if (length == 0 || end > window.limit()) {
+                return start;
+            }
+            ByteBuffer record = window.slice(start + JournalFormat.LENGTH_BYTES, length);
+            try {
+                dispatch(record, strategies, listener);
+            } catch (BufferUnderflowException | IllegalStateException e) {
+                return start;
+            }
+            window.position(end);
+        }
+        return window.position();
+    }
+
+    private static void dispatch(ByteBuffer record, Function<PlayerType, PlayerStrategy> strategies,
+                                 JournalListener listener) {
+        byte type = record.get();
+        long gameId = JournalFormat.getVarLong(record);
+        switch (type) {
+            case JournalFormat.GAME_CREATED -> {
+                int boardSize = (int) JournalFormat.getVarLong(record);
+                List<Player> players = JournalFormat.getPlayers(record, listener == null ? null : strategies);
+                int winLength = record.hasRemaining() ? (int) JournalFormat.getVarLong(record) : boardSize;
+                if (listener != null) {
+                    listener.onGameCreated(gameId, boardSize, winLength, players);
+                }
+            }
+            case JournalFormat.MOVE -> {
+                int cellIndex = (int) JournalFormat.getVarLong(record);
+                if (listener != null) {
+                    listener.onMove(gameId, cellIndex);
+                }
+            }
+            case JournalFormat.RESULT -> {
+                GameStatus status = STATUSES[JournalFormat.checkOrdinal(record.get(), STATUSES.length)];
+                int winner = Byte.toUnsignedInt(record.get());
+                if (listener != null) {
+                    listener.onResult(gameId, status, winner == JournalFormat.NO_WINNER ? -1 : winner);
+                }
+            }
+            default -> throw new IllegalStateException("Unknown journal record type " + type);
+        }
+    }
+
+    private static final class Replay implements JournalListener {
+        private final long gameFilter;
+        private final GameService gameService = new GameService(new LineCounterWinningStrategy());
+        private final Map<Long, GameState> games = new HashMap<>();
+
+        Replay(long gameFilter) {
+            this.gameFilter = gameFilter;
+        }
+
+        @Override
+        public void onGameCreated(long gameId, int boardSize, int winLength, List<Player> players) {
+            if (gameFilter < 0 || gameFilter == gameId) {
+                games.put(gameId, new GameState(new Board(boardSize, winLength), players));
+            }
+        }
+
+        @Override
+        public void onMove(long gameId, int cellIndex) {
+            GameState gameState = games.get(gameId);
+            if (gameState == null || gameState.isGameOver()) {
+                return;
+            }
+            Move move = new Move(gameState.getCurrentPlayer(), gameState.getBoard().getCell(cellIndex));
+            gameService.executeMove(gameState, move);
+            gameService.checkGameStatus(gameState, move);
+            if (!gameState.isGameOver()) {
+                gameState.switchPlayer();
+            }
+        }
+
+        @Override
+        public void onResult(long gameId, GameStatus status, int winnerSlot) {
+            GameState gameState = games.get(gameId);
+            if (gameState == null) {
+                return;
+            }
+            gameState.setStatus(status);
+            List<Player> players = gameState.getPlayers();
+            gameState.setWinner(winnerSlot >= 0 && winnerSlot < players.size() ? players.get(winnerSlot) : null);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package search;
+
+import metrics.GameMetrics;
+import model.Board;
+import model.BoardGeometry;
+import model.BoardSymmetry;
+import model.ZobristKeys;
+import strategy.WinningStrategy;
+
+public abstract class AlphaBetaSearch {
+    public static final int WIN_SCORE = 10000;
+    public static final int WIN_THRESHOLD = WIN_SCORE - 1000;
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+    // Bump whenever evaluation, draw detection or score encoding changes, so persisted tables are discarded.
+    public static final int SCORING_VERSION = 1;
+
+    static final int INFINITY = WIN_SCORE + 1;
+    static final int NO_CUTOFF = Integer.MIN_VALUE;
+    static final int TT_MOVE_BONUS = 1 << 20;
+    static final int WIN_MOVE_BONUS = 1 << 18;
+    static final int BLOCK_MOVE_BONUS = 1 << 16;
+
+    private static final int ABORT_CHECK_MASK = 1023;
+
+    final WinningStrategy winningStrategy;
+    final TranspositionTable table;
+    final Evaluator evaluator;
+
+    Board board;
+    BoardGeometry geometry;
+    BoardSymmetry symmetry;
+    long geometryKey;
+    int rootBestMove;
+    int tableMove;
+    boolean aborted;
+
+    private int[][] moves;
+    private int[][] moveScores;
+    private long nodes;
+    private long startNanos;
+    private long deadline;
+
+    AlphaBetaSearch(WinningStrategy winningStrategy, TranspositionTable table, Evaluator evaluator) {
+        this.winningStrategy = winningStrategy;
+        this.table = table;
+        this.evaluator = evaluator;
+    }
+
+    abstract int searchRoot(int depth);
+
+    abstract int orderingScore(int index, int side, int other);
+
+    SearchResult run(Board board, int maxDepth, long deadlineNanos, boolean iterative) {
+        prepare(board, deadlineNanos);
+        try {
+            return iterative ? iterate(maxDepth) : searchFixed(maxDepth);
+        } finally {
+            evaluator.detach(board);
+            if (GameMetrics.ENABLED) {
+                GameMetrics.get().recordSearch(nodes, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private SearchResult searchFixed(int maxDepth) {
+        int depth = depthLimit(maxDepth);
+        int score = searchRoot(depth);
+        return new SearchResult(rootMove(), score, depth, nodes);
+    }
+
+    private SearchResult iterate(int maxDepth) {
+        int limit = depthLimit(maxDepth);
+        SearchResult completed = null;
+
+        for (int depth = 1; depth <= limit; depth++) {
+            rootBestMove = -1;
+            int score = searchRoot(depth);
+            if (aborted) {
+                break;
+            }
+            completed = new SearchResult(rootMove(), score, depth, nodes);
+            if (Math.abs(score) > WIN_THRESHOLD) {
+                break;
+            }
+        }
+
+        if (completed == null) {
+            return new SearchResult(rootMove(), 0, 0, nodes);
+        }
+        return new SearchResult(completed.getBestMove(), completed.getScore(), completed.getDepth(), nodes);
+    }
+
+    private int depthLimit(int maxDepth) {
+        return Math.max(1, Math.min(maxDepth, board.getCellCount() - board.getFilledCount()));
+    }
+
+    private int rootMove() {
+        if (rootBestMove >= 0) {
+            return rootBestMove;
+        }
+        return board.getEmptyCount() == 0 ? -1 : board.getEmptyCell(0);
+    }
+
+    private void prepare(Board board, long deadlineNanos) {
+        this.board = board;
+        this.geometry = board.getGeometry();
+        this.symmetry = board.getSymmetry();
+        this.geometryKey = ZobristKeys.geometryKey(board.getSize(), board.getWinLength());
+        int cellCount = board.getCellCount();
+        if (moves == null || moves[0].length != cellCount) {
+            moves = new int[cellCount + 1][cellCount];
+            moveScores = new int[cellCount + 1][cellCount];
+        }
+        this.rootBestMove = -1;
+        this.nodes = 0;
+        this.startNanos = System.nanoTime();
+        this.deadline = deadlineNanos;
+        this.aborted = false;
+        table.newSearch();
+        evaluator.attach(board);
+    }
+
+    boolean enterNode() {
+        nodes++;
+        if (aborted || shouldAbort()) {
+            aborted = true;
+        }
+        return !aborted;
+    }
+
+    private boolean shouldAbort() {
+        if ((nodes & ABORT_CHECK_MASK) != 0) {
+            return false;
+        }
+        return (deadline != NO_DEADLINE && System.nanoTime() >= deadline)
+                || Thread.currentThread().isInterrupted();
+    }
+
+    int probeTable(long key, int transform, int depth, int alpha, int beta, int ply) {
+        tableMove = -1;
+        long entry = table.probe(key);
+        if (entry == TranspositionTable.MISS) {
+            return NO_CUTOFF;
+        }
+        int canonicalMove = TranspositionTable.bestMoveOf(entry);
+        tableMove = canonicalMove < 0 ? -1 : symmetry.invert(transform, canonicalMove);
+        if (ply > 0 && TranspositionTable.depthOf(entry) >= depth) {
+            int score = fromTable(TranspositionTable.scoreOf(entry), ply);
+            int bound = TranspositionTable.boundOf(entry);
+            if (bound == TranspositionTable.EXACT
+                    || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                    || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                return score;
+            }
+        }
+        return NO_CUTOFF;
+    }
+
+    void storeTable(long key, int transform, int depth, int alpha, int beta, int ply, int bestScore, int bestMove) {
+        int bound = bestScore <= alpha ? TranspositionTable.UPPER_BOUND
+                : bestScore >= beta ? TranspositionTable.LOWER_BOUND
+                : TranspositionTable.EXACT;
+        table.store(key, toTable(bestScore, ply), depth, bound, symmetry.apply(transform, bestMove));
+    }
+
+    int generateMoves(int side, int other, int ply) {
+        int[] buffer = moves[ply];
+        int[] scores = moveScores[ply];
+        int count = board.getEmptyCount();
+        for (int position = 0; position < count; position++) {
+            int index = board.getEmptyCell(position);
+            buffer[position] = index;
+            scores[position] = index == tableMove ? TT_MOVE_BONUS : orderingScore(index, side, other);
+        }
+        return count;
+    }
+
+    int nextMove(int ply, int from, int count) {
+        int[] buffer = moves[ply];
+        int[] scores = moveScores[ply];
+        int best = from;
+        for (int i = from + 1; i < count; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        int move = buffer[best];
+        int score = scores[best];
+        buffer[best] = buffer[from];
+        scores[best] = scores[from];
+        buffer[from] = move;
+        scores[from] = score;
+        return move;
+    }
+
+    static int toTable(int score, int ply) {
+        if (score > WIN_THRESHOLD) {
+            return score + ply;
+        }
+        if (score < -WIN_THRESHOLD) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    static int fromTable(int score, int ply) {
+        if (score > WIN_THRESHOLD) {
+            return score - ply;
+        }
+        if (score < -WIN_THRESHOLD) {
+            return score + ply;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,11 @@
+package search;
+
+import model.Board;
+
+public interface Evaluator {
+    void attach(Board board);
+
+    void detach(Board board);
+
+    int evaluate(Board board, int side, int other);
+}
@@ -0,0 +1,56 @@
+package search;
+
+import metrics.GameMetrics;
+
+import java.util.Arrays;
+
+public class HeapTranspositionTable implements TranspositionTable {
+    private static final int ENTRY_BYTES = 16;
+
+    private final long[] entries;
+    private final int mask;
+
+    public HeapTranspositionTable(int sizeInMegabytes) {
+        long requested = Math.max(1, (long) sizeInMegabytes * 1024 * 1024 / ENTRY_BYTES);
+        int capacity = Integer.highestOneBit((int) Math.min(requested, 1 << 28));
+        this.entries = new long[capacity * 2];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public long probe(long key) {
+        int slot = index(key);
+        long data = entries[slot + 1];
+        boolean hit = data != MISS && (entries[slot] ^ data) == key;
+        if (GameMetrics.ENABLED) {
+            GameMetrics.get().recordTableProbe(hit);
+        }
+        return hit ? data : MISS;
+    }
+
+    @Override
+    public void store(long key, int score, int depth, int bound, int bestMove) {
+        int slot = index(key);
+        long existing = entries[slot + 1];
+        if (existing != MISS && (entries[slot] ^ existing) != key && TranspositionTable.depthOf(existing) > depth) {
+            return;
+        }
+        long data = TranspositionTable.pack(score, depth, bound, bestMove);
+        entries[slot] = key ^ data;
+        entries[slot + 1] = data;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(entries, 0L);
+    }
+
+    @Override
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private int index(long key) {
+        return ((int) (key ^ (key >>> 32)) & mask) << 1;
+    }
+}
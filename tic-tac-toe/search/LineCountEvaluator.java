@@ -0,0 +1,31 @@
+package search;
+
+import model.Board;
+import model.BoardGeometry;
+
+public class LineCountEvaluator implements Evaluator {
+
+    @Override
+    public void attach(Board board) {
+    }
+
+    @Override
+    public void detach(Board board) {
+    }
+
+    @Override
+    public int evaluate(Board board, int side, int other) {
+        BoardGeometry geometry = board.getGeometry();
+        int score = 0;
+        for (int line = 0; line < geometry.getLineCount(); line++) {
+            int mine = board.getLineCount(side, line);
+            int theirs = board.getLineCount(other, line);
+            if (theirs == 0) {
+                score += mine * mine;
+            } else if (mine == 0) {
+                score -= theirs * theirs;
+            }
+        }
+        return score;
+    }
+}
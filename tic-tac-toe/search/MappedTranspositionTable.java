@@ -0,0 +1,213 @@
+package search;
+
+import metrics.GameMetrics;
+import model.ZobristKeys;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class MappedTranspositionTable implements TranspositionTable {
+    public static final String FILE_PROPERTY = "tictactoe.tt.file";
+    public static final String SIZE_PROPERTY = "tictactoe.tt.mb";
+
+    private static final long MAGIC = 0x5454542D4D4D4150L;
+    private static final int VERSION = 1;
+    private static final int DEFAULT_SIZE_MB = 256;
+    private static final int HEADER_BYTES = 64;
+    private static final int ENTRY_BYTES = 16;
+    private static final int BUCKET_ENTRIES = 4;
+    private static final int BUCKET_BYTES = ENTRY_BYTES * BUCKET_ENTRIES;
+    private static final int MAX_BUCKETS = 1 << 24;
+    private static final int VERSION_OFFSET = 8;
+    private static final int BUCKETS_OFFSET = 12;
+    private static final int KEYS_OFFSET = 16;
+    private static final int AGE_OFFSET = 24;
+    private static final int AGE_SHIFT = 42;
+    private static final long AGE_MASK = 0xFFL << AGE_SHIFT;
+    private static final int AGE_WEIGHT = 8;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final Map<Path, MappedTranspositionTable> OPEN = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int mask;
+
+    private MappedTranspositionTable(Path path, MappedByteBuffer buffer, int buckets) {
+        this.path = path;
+        this.buffer = buffer;
+        this.mask = buckets - 1;
+    }
+
+    public static TranspositionTable shared() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        try {
+            return open(Path.of(file), Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE_MB));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open transposition table " + file, e);
+        }
+    }
+
+    public static MappedTranspositionTable open(Path path, int sizeInMegabytes) throws IOException {
+        Path key = path.toAbsolutePath().normalize();
+        try {
+            return OPEN.computeIfAbsent(key, ignored -> {
+                try {
+                    return map(key, sizeInMegabytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static MappedTranspositionTable map(Path path, int sizeInMegabytes) throws IOException {
+        long requested = Math.max(1, (long) sizeInMegabytes * 1024 * 1024 / BUCKET_BYTES);
+        int buckets = Integer.highestOneBit((int) Math.min(requested, MAX_BUCKETS));
+        long length = HEADER_BYTES + (long) buckets * BUCKET_BYTES;
+
+        Path directory = path.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean reusable = channel.size() == length;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            MappedTranspositionTable table = new MappedTranspositionTable(path, buffer, buckets);
+            if (!reusable || !table.hasValidHeader()) {
+                table.initialize();
+            }
+            return table;
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public long probe(long key) {
+        int offset = bucket(key);
+        long data = MISS;
+        for (int i = 0; i < BUCKET_ENTRIES; i++, offset += ENTRY_BYTES) {
+            long candidate = (long) LONGS.getOpaque(buffer, offset + 8);
+            if (candidate != MISS && ((long) LONGS.getOpaque(buffer, offset) ^ candidate) == key) {
+                data = candidate;
+                int age = currentAge();
+                if (ageOf(candidate) != age) {
+                    write(offset, key, withAge(candidate, age));
+                }
+                break;
+            }
+        }
+        if (GameMetrics.ENABLED) {
+            GameMetrics.get().recordTableProbe(data != MISS);
+        }
+        return data;
+    }
+
+    @Override
+    public void store(long key, int score, int depth, int bound, int bestMove) {
+        int offset = bucket(key);
+        int age = currentAge();
+        int victim = offset;
+        int victimValue = Integer.MAX_VALUE;
+        for (int i = 0; i < BUCKET_ENTRIES; i++, offset += ENTRY_BYTES) {
+            long existing = (long) LONGS.getOpaque(buffer, offset + 8);
+            if (existing == MISS || ((long) LONGS.getOpaque(buffer, offset) ^ existing) == key) {
+                victim = offset;
+                break;
+            }
+            int value = TranspositionTable.depthOf(existing) - AGE_WEIGHT * ((age - ageOf(existing)) & 0xFF);
+            if (value < victimValue) {
+                victimValue = value;
+                victim = offset;
+            }
+        }
+        write(victim, key, withAge(TranspositionTable.pack(score, depth, bound, bestMove), age));
+    }
+
+    @Override
+    public void newSearch() {
+        INTS.getAndAdd(buffer, AGE_OFFSET, 1);
+    }
+
+    @Override
+    public void clear() {
+        for (int offset = HEADER_BYTES; offset < buffer.capacity(); offset += 8) {
+            LONGS.setOpaque(buffer, offset, 0L);
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return (mask + 1) * BUCKET_ENTRIES;
+    }
+
+    public void flush() {
+        buffer.force();
+    }
+
+    private boolean hasValidHeader() {
+        return buffer.getLong(0) == MAGIC
+                && buffer.getInt(VERSION_OFFSET) == VERSION
+                && buffer.getInt(BUCKETS_OFFSET) == mask + 1
+                && buffer.getLong(KEYS_OFFSET) == keyFingerprint();
+    }
+
+    private void initialize() {
+        buffer.putLong(0, 0L);
+        buffer.force();
+        clear();
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(BUCKETS_OFFSET, mask + 1);
+        buffer.putLong(KEYS_OFFSET, keyFingerprint());
+        buffer.putInt(AGE_OFFSET, 0);
+        buffer.force();
+        buffer.putLong(0, MAGIC);
+        buffer.force();
+    }
+
+    private void write(int offset, long key, long data) {
+        LONGS.setOpaque(buffer, offset, key ^ data);
+        LONGS.setOpaque(buffer, offset + 8, data);
+    }
+
+    private int bucket(long key) {
+        return HEADER_BYTES + ((int) (key ^ (key >>> 32)) & mask) * BUCKET_BYTES;
+    }
+
+    private int currentAge() {
+        return (int) INTS.getOpaque(buffer, AGE_OFFSET) & 0xFF;
+    }
+
+    private static int ageOf(long data) {
+        return (int) ((data & AGE_MASK) >>> AGE_SHIFT);
+    }
+
+    private static long withAge(long data, int age) {
+        return (data & ~AGE_MASK) | ((long) age << AGE_SHIFT);
+    }
+
+    private static long keyFingerprint() {
+        return ZobristKeys.cellKey(0, 'X') ^ ZobristKeys.sideKey(0) ^ ZobristKeys.geometryKey(3, 3)
+                ^ AlphaBetaSearch.SCORING_VERSION * 0x9E3779B97F4A7C15L;
+    }
+}
@@ -0,0 +1,69 @@
+package search;
+
+import model.Board;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+class MctsNode {
+    private static final AtomicIntegerFieldUpdater<MctsNode> VISITS =
+            AtomicIntegerFieldUpdater.newUpdater(MctsNode.class, "visits");
+    private static final AtomicLongFieldUpdater<MctsNode> REWARD =
+            AtomicLongFieldUpdater.newUpdater(MctsNode.class, "reward");
+    private static final AtomicReferenceFieldUpdater<MctsNode, MctsNode[]> CHILDREN =
+            AtomicReferenceFieldUpdater.newUpdater(MctsNode.class, MctsNode[].class, "children");
+
+    private final int move;
+    private final int slot;
+    private volatile int visits;
+    private volatile long reward;
+    private volatile MctsNode[] children;
+
+    MctsNode(int move, int slot) {
+        this.move = move;
+        this.slot = slot;
+    }
+
+    int getMove() {
+        return move;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    int getVisits() {
+        return visits;
+    }
+
+    long getReward() {
+        return reward;
+    }
+
+    MctsNode[] getChildren() {
+        return children;
+    }
+
+    void addVisit() {
+        VISITS.incrementAndGet(this);
+    }
+
+    void addReward(int amount) {
+        if (amount != 0) {
+            REWARD.addAndGet(this, amount);
+        }
+    }
+
+    MctsNode[] expand(Board board, int sideToMove) {
+        MctsNode[] existing = children;
+        if (existing != null) {
+            return existing;
+        }
+        MctsNode[] created = new MctsNode[board.getEmptyCount()];
+        for (int position = 0; position < created.length; position++) {
+            created[position] = new MctsNode(board.getEmptyCell(position), sideToMove);
+        }
+        return CHILDREN.compareAndSet(this, null, created) ? created : children;
+    }
+}
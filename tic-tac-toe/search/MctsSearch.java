@@ -0,0 +1,235 @@
+package search;
+
+import metrics.GameMetrics;
+import model.Board;
+import strategy.WinningStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MctsSearch {
+    private static final double EXPLORATION = Math.sqrt(2.0);
+    private static final int WIN_REWARD = 2;
+    private static final int DRAW_REWARD = 1;
+    private static final int NO_WINNER = -1;
+    private static final long POOL_KEEP_ALIVE_SECONDS = 30;
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private final WinningStrategy winningStrategy;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private SplittableRandom seedSource;
+
+    public MctsSearch(WinningStrategy winningStrategy, int parallelism, long seed) {
+        this.winningStrategy = winningStrategy;
+        this.parallelism = parallelism;
+        this.pool = parallelism > 1 ? POOLS.computeIfAbsent(parallelism - 1, MctsSearch::newPool) : null;
+        this.seedSource = new SplittableRandom(seed);
+    }
+
+    public SearchResult search(Board board, int slot, long maxIterations, long timeBudgetMillis) {
+        int previous = (slot + board.getSlotCount() - 1) % board.getSlotCount();
+        MctsNode root = new MctsNode(-1, previous);
+        long deadline = timeBudgetMillis > 0
+                ? System.nanoTime() + timeBudgetMillis * 1_000_000L
+                : Long.MAX_VALUE;
+        Budget budget = new Budget(maxIterations, deadline);
+
+        // The caller runs one worker itself, so interrupting it (a timed-out async turn) ends the search.
+        Worker caller = new Worker(board.copy(), slot, root, seedSource.split());
+        List<ForkJoinTask<?>> helpers = new ArrayList<>(parallelism - 1);
+        long start = System.nanoTime();
+        try {
+            for (int i = 1; i < parallelism; i++) {
+                Worker worker = new Worker(board.copy(), slot, root, seedSource.split());
+                helpers.add(pool.submit(() -> worker.run(budget)));
+            }
+            caller.run(budget);
+        } finally {
+            budget.stopped = true;
+            for (ForkJoinTask<?> helper : helpers) {
+                helper.quietlyJoin();
+            }
+        }
+        if (GameMetrics.ENABLED) {
+            GameMetrics.get().recordSearch(budget.playouts.get(), System.nanoTime() - start);
+        }
+
+        long playouts = budget.playouts.get();
+        MctsNode best = mostVisitedChild(root);
+        if (best == null) {
+            int move = board.getEmptyCount() == 0 ? -1 : board.getEmptyCell(0);
+            return new SearchResult(move, 0, budget.maxDepth.get(), playouts);
+        }
+        int score = best.getVisits() == 0 ? 0
+                : (int) (best.getReward() * 1000L / (WIN_REWARD * (long) best.getVisits()));
+        return new SearchResult(best.getMove(), score, budget.maxDepth.get(), playouts);
+    }
+
+    // Shared per size for the life of the process; its daemon workers retire once idle for the keep-alive.
+    private static ForkJoinPool newPool(int parallelism) {
+        return new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false,
+                0, parallelism, 1, null, POOL_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public void reseed(long seed) {
+        seedSource = new SplittableRandom(seed);
+    }
+
+    private static MctsNode mostVisitedChild(MctsNode root) {
+        MctsNode[] children = root.getChildren();
+        if (children == null) {
+            return null;
+        }
+        MctsNode best = null;
+        for (MctsNode child : children) {
+            if (best == null || child.getVisits() > best.getVisits()) {
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    private final class Worker {
+        private final Board board;
+        private final int rootSide;
+        private final MctsNode root;
+        private final SplittableRandom random;
+        private final MctsNode[] path;
+        private int placedCount;
+
+        Worker(Board board, int rootSide, MctsNode root, SplittableRandom random) {
+            this.board = board;
+            this.rootSide = rootSide;
+            this.root = root;
+            this.random = random;
+            this.path = new MctsNode[board.getCellCount() + 1];
+        }
+
+        void run(Budget budget) {
+            root.expand(board, rootSide);
+            while (!budget.stopped
+                    && !Thread.currentThread().isInterrupted()
+                    && System.nanoTime() < budget.deadline
+                    && budget.started.getAndIncrement() < budget.maxIterations) {
+                int depth = iterate();
+                budget.playouts.incrementAndGet();
+                if (depth > budget.maxDepth.get()) {
+                    budget.maxDepth.accumulateAndGet(depth, Math::max);
+                }
+            }
+        }
+
+        private int iterate() {
+            int pathLength = 0;
+            placedCount = 0;
+            int side = rootSide;
+            int winner = NO_WINNER;
+            boolean terminal = false;
+
+            MctsNode node = root;
+            node.addVisit();
+            path[pathLength++] = node;
+
+            while (true) {
+                MctsNode[] children = node.getChildren();
+                if (children == null) {
+                    if (node.getVisits() <= 1) {
+                        break;
+                    }
+                    children = node.expand(board, side);
+                }
+                MctsNode child = select(node, children);
+                child.addVisit();
+                path[pathLength++] = child;
+
+                board.makeMove(child.getMove(), side);
+                placedCount++;
+                if (winningStrategy.checkWinner(board, child.getMove())) {
+                    winner = side;
+                    terminal = true;
+                    break;
+                }
+                if (winningStrategy.isDraw(board)) {
+                    terminal = true;
+                    break;
+                }
+                side = nextSide(side);
+                node = child;
+            }
+
+            int treeDepth = pathLength - 1;
+            if (!terminal) {
+                winner = playout(side);
+            }
+
+            for (int i = 0; i < pathLength; i++) {
+                MctsNode visited = path[i];
+                visited.addReward(winner == NO_WINNER ? DRAW_REWARD : winner == visited.getSlot() ? WIN_REWARD : 0);
+            }
+            for (int i = 0; i < placedCount; i++) {
+                board.unmakeMove();
+            }
+            return treeDepth;
+        }
+
+        private int playout(int side) {
+            while (!winningStrategy.isDraw(board)) {
+                int move = board.getRandomEmptyCell(random);
+                board.makeMove(move, side);
+                placedCount++;
+                if (winningStrategy.checkWinner(board, move)) {
+                    return side;
+                }
+                side = nextSide(side);
+            }
+            return NO_WINNER;
+        }
+
+        private MctsNode select(MctsNode parent, MctsNode[] children) {
+            double logParent = Math.log(Math.max(1, parent.getVisits()));
+            MctsNode best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (MctsNode child : children) {
+                int visits = child.getVisits();
+                if (visits == 0) {
+                    return child;
+                }
+                double value = child.getReward() / (double) (WIN_REWARD * visits)
+                        + EXPLORATION * Math.sqrt(logParent / visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        private int nextSide(int side) {
+            int next = side + 1;
+            return next == board.getSlotCount() ? 0 : next;
+        }
+    }
+
+    private static final class Budget {
+        final long maxIterations;
+        final long deadline;
+        final AtomicLong started = new AtomicLong();
+        final AtomicLong playouts = new AtomicLong();
+        final AtomicInteger maxDepth = new AtomicInteger();
+        volatile boolean stopped;
+
+        Budget(long maxIterations, long deadline) {
+            this.maxIterations = maxIterations;
+            this.deadline = deadline;
+        }
+    }
+}
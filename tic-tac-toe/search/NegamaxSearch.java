@@ -0,0 +1,105 @@
+package search;
+
+import model.Board;
+import model.ZobristKeys;
+import strategy.WinningStrategy;
+
+public class NegamaxSearch extends AlphaBetaSearch {
+    private int rootSide;
+    private int rootOther;
+
+    public NegamaxSearch(WinningStrategy winningStrategy, TranspositionTable table) {
+        this(winningStrategy, table, new ThreatEvaluator());
+    }
+
+    public NegamaxSearch(WinningStrategy winningStrategy, TranspositionTable table, Evaluator evaluator) {
+        super(winningStrategy, table, evaluator);
+    }
+
+    public SearchResult search(Board board, int slot, int opponentSlot, int maxDepth) {
+        this.rootSide = slot;
+        this.rootOther = opponentSlot;
+        return run(board, maxDepth, NO_DEADLINE, false);
+    }
+
+    public SearchResult searchIterative(Board board, int slot, int opponentSlot, int maxDepth, long deadlineNanos) {
+        this.rootSide = slot;
+        this.rootOther = opponentSlot;
+        return run(board, maxDepth, deadlineNanos, true);
+    }
+
+    @Override
+    int searchRoot(int depth) {
+        return negamax(depth, -INFINITY, INFINITY, rootSide, rootOther, 0);
+    }
+
+    private int negamax(int depth, int alpha, int beta, int side, int other, int ply) {
+        if (!enterNode()) {
+            return 0;
+        }
+        if (ply > 0 && winningStrategy.isDraw(board)) {
+            return 0;
+        }
+        if (depth == 0) {
+            return evaluator.evaluate(board, side, other);
+        }
+
+        int transform = board.getCanonicalTransform();
+        long key = board.getHash(transform) ^ ZobristKeys.sideKey(side) ^ geometryKey;
+        int cutoff = probeTable(key, transform, depth, alpha, beta, ply);
+        if (cutoff != NO_CUTOFF) {
+            return cutoff;
+        }
+
+        int count = generateMoves(side, other, ply);
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = -1;
+
+        for (int i = 0; i < count; i++) {
+            int move = nextMove(ply, i, count);
+            board.makeMove(move, side);
+            int score = winningStrategy.checkWinner(board, move)
+                    ? WIN_SCORE - ply - 1
+                    : -negamax(depth - 1, -beta, -alpha, other, side, ply + 1);
+            board.unmakeMove();
+            if (aborted) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (ply == 0) {
+                    rootBestMove = move;
+                }
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        storeTable(key, transform, depth, originalAlpha, beta, ply, bestScore, bestMove);
+        return bestScore;
+    }
+
+    @Override
+    int orderingScore(int index, int side, int other) {
+        int score = 0;
+        for (int line : geometry.getCellLines(index)) {
+            int mine = board.getLineCount(side, line);
+            int theirs = board.getLineCount(other, line);
+            int remaining = geometry.getLineLength(line) - 1;
+            if (theirs == 0) {
+                score += mine == remaining ? WIN_MOVE_BONUS : (mine + 1) * (mine + 1);
+            }
+            if (mine == 0) {
+                score += theirs == remaining ? BLOCK_MOVE_BONUS : theirs * theirs;
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,134 @@
+package search;
+
+import model.Board;
+import model.ZobristKeys;
+import strategy.WinningStrategy;
+
+public class ParanoidSearch extends AlphaBetaSearch {
+    private final ThreatEvaluator threats;
+
+    private int slotCount;
+    private int root;
+    private long rootKey;
+
+    public ParanoidSearch(WinningStrategy winningStrategy, TranspositionTable table) {
+        this(winningStrategy, table, new ThreatEvaluator());
+    }
+
+    private ParanoidSearch(WinningStrategy winningStrategy, TranspositionTable table, ThreatEvaluator threats) {
+        super(winningStrategy, table, threats);
+        this.threats = threats;
+    }
+
+    public SearchResult searchIterative(Board board, int slot, int maxDepth, long deadlineNanos) {
+        this.slotCount = board.getSlotCount();
+        this.root = slot;
+        this.rootKey = Long.rotateLeft(ZobristKeys.sideKey(slot), 1);
+        return run(board, maxDepth, deadlineNanos, true);
+    }
+
+    @Override
+    int searchRoot(int depth) {
+        return paranoid(depth, -INFINITY, INFINITY, root, 0);
+    }
+
+    private int paranoid(int depth, int alpha, int beta, int player, int ply) {
+        if (!enterNode()) {
+            return 0;
+        }
+        if (ply > 0 && winningStrategy.isDraw(board)) {
+            return 0;
+        }
+        if (depth == 0) {
+            return evaluate(player);
+        }
+
+        int transform = board.getCanonicalTransform();
+        long key = board.getHash(transform) ^ ZobristKeys.sideKey(player) ^ rootKey ^ geometryKey;
+        int cutoff = probeTable(key, transform, depth, alpha, beta, ply);
+        if (cutoff != NO_CUTOFF) {
+            return cutoff;
+        }
+
+        boolean maximizing = player == root;
+        int next = (player + 1) % slotCount;
+        int count = generateMoves(player, -1, ply);
+        int originalAlpha = alpha;
+        int originalBeta = beta;
+        int bestScore = maximizing ? -INFINITY : INFINITY;
+        int bestMove = -1;
+
+        for (int i = 0; i < count; i++) {
+            int move = nextMove(ply, i, count);
+            board.makeMove(move, player);
+            int score;
+            if (winningStrategy.checkWinner(board, move)) {
+                score = maximizing ? WIN_SCORE - ply - 1 : -(WIN_SCORE - ply - 1);
+            } else {
+                score = paranoid(depth - 1, alpha, beta, next, ply + 1);
+            }
+            board.unmakeMove();
+            if (aborted) {
+                return 0;
+            }
+
+            if (maximizing ? score > bestScore : score < bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (ply == 0) {
+                    rootBestMove = move;
+                }
+            }
+            if (maximizing) {
+                alpha = Math.max(alpha, score);
+            } else {
+                beta = Math.min(beta, score);
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        storeTable(key, transform, depth, originalAlpha, originalBeta, ply, bestScore, bestMove);
+        return bestScore;
+    }
+
+    private int evaluate(int player) {
+        if (threats.getThreatCount(player) > 0) {
+            return player == root ? ThreatEvaluator.MAX_SCORE : -ThreatEvaluator.MAX_SCORE;
+        }
+        long strongest = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slot != root) {
+                strongest = Math.max(strongest, threats.getScore(slot));
+            }
+        }
+        long score = threats.getScore(root) - strongest;
+        return (int) Math.max(-ThreatEvaluator.MAX_SCORE, Math.min(ThreatEvaluator.MAX_SCORE, score));
+    }
+
+    @Override
+    int orderingScore(int index, int player, int other) {
+        int score = 0;
+        for (int line : geometry.getCellLines(index)) {
+            int mine = board.getLineCount(player, line);
+            int remaining = geometry.getLineLength(line) - 1;
+            int others = 0;
+            int strongest = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (slot != player) {
+                    int count = board.getLineCount(slot, line);
+                    others += count;
+                    strongest = Math.max(strongest, count);
+                }
+            }
+            if (others == 0) {
+                score += mine == remaining ? WIN_MOVE_BONUS : (mine + 1) * (mine + 1);
+            }
+            if (mine == 0 && strongest == others) {
+                score += strongest == remaining ? BLOCK_MOVE_BONUS : strongest * strongest;
+            }
+        }
+        return score;
+    }
+}
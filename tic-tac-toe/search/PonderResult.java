@@ -0,0 +1,25 @@
+package search;
+
+public class PonderResult {
+    private final int predictedMove;
+    private final SearchResult result;
+    private final long ponderNanos;
+
+    public PonderResult(int predictedMove, SearchResult result, long ponderNanos) {
+        this.predictedMove = predictedMove;
+        this.result = result;
+        this.ponderNanos = ponderNanos;
+    }
+
+    public int getPredictedMove() {
+        return predictedMove;
+    }
+
+    public SearchResult getResult() {
+        return result;
+    }
+
+    public long getPonderNanos() {
+        return ponderNanos;
+    }
+}
@@ -0,0 +1,91 @@
+package search;
+
+import model.Board;
+import strategy.WinningStrategy;
+
+public class Ponderer {
+    private final NegamaxSearch search;
+    private final WinningStrategy winningStrategy;
+    private Thread thread;
+    private long ponderedHash;
+    private int ponderedFilled;
+    private int predictedMove;
+    private SearchResult result;
+    private long startNanos;
+
+    public Ponderer(NegamaxSearch search, WinningStrategy winningStrategy) {
+        this.search = search;
+        this.winningStrategy = winningStrategy;
+    }
+
+    public synchronized void start(Board board, int move, int slot, int opponentSlot, int maxDepth,
+                                   long predictionMillis, long limitMillis) {
+        stopThread();
+        Board position = board.copy();
+        position.makeMove(move, slot);
+        if (winningStrategy.checkWinner(position, move) || winningStrategy.isDraw(position)) {
+            return;
+        }
+
+        this.result = null;
+        this.predictedMove = -1;
+        this.startNanos = System.nanoTime();
+        long predictionDeadline = startNanos + predictionMillis * 1_000_000L;
+        long limit = limitMillis > 0 ? startNanos + limitMillis * 1_000_000L : NegamaxSearch.NO_DEADLINE;
+        thread = new Thread(() -> ponder(position, slot, opponentSlot, maxDepth, predictionDeadline, limit),
+                "minimax-ponder");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized PonderResult stop(Board actual) {
+        stopThread();
+        if (result == null || result.getDepth() == 0
+                || actual.getHash() != ponderedHash || actual.getFilledCount() != ponderedFilled) {
+            return null;
+        }
+        return new PonderResult(predictedMove, result, System.nanoTime() - startNanos);
+    }
+
+    public synchronized void stop() {
+        stopThread();
+    }
+
+    private void ponder(Board position, int slot, int opponentSlot, int maxDepth, long predictionDeadline,
+                        long limit) {
+        SearchResult prediction = search.searchIterative(position, opponentSlot, slot, maxDepth,
+                Math.min(predictionDeadline, limit));
+        int reply = prediction.getBestMove();
+        if (Thread.currentThread().isInterrupted() || reply < 0) {
+            return;
+        }
+        position.makeMove(reply, opponentSlot);
+        if (winningStrategy.checkWinner(position, reply) || winningStrategy.isDraw(position)) {
+            return;
+        }
+        predictedMove = reply;
+        ponderedHash = position.getHash();
+        ponderedFilled = position.getFilledCount();
+        result = search.searchIterative(position, slot, opponentSlot, maxDepth, limit);
+    }
+
+    private void stopThread() {
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+}
@@ -0,0 +1,36 @@
+package search;
+
+public class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+
+    public SearchResult(int bestMove, int score, int depth, long nodes) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("move=%d score=%d depth=%d nodes=%d", bestMove, score, depth, nodes);
+    }
+}
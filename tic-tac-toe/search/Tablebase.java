@@ -0,0 +1,314 @@
+package search;
+
+import model.Board;
+import model.BoardSymmetry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class Tablebase {
+    public static final int UNKNOWN = 0;
+    public static final int WIN = 1;
+    public static final int DRAW = 2;
+    public static final int LOSS = 3;
+    public static final int MAX_CELLS = 16;
+    public static final String DIRECTORY_PROPERTY = "tictactoe.tablebase.dir";
+
+    static final int MAGIC = 0x54544233;
+    static final int HEADER_BYTES = 16;
+
+    private static final int BLOCK_WORDS = 8;
+    private static final Map<Path, Tablebase> OPEN = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final int winLength;
+    private final int cellCount;
+    private final LongBuffer present;
+    private final IntBuffer ranks;
+    private final ByteBuffer values;
+    private final int[][] powers;
+
+    private Tablebase(int size, int winLength, LongBuffer present, IntBuffer ranks, ByteBuffer values) {
+        this.size = size;
+        this.winLength = winLength;
+        this.cellCount = size * size;
+        this.present = present;
+        this.ranks = ranks;
+        this.values = values;
+        this.powers = powers(size);
+    }
+
+    public static boolean supports(int size) {
+        return size * size <= MAX_CELLS;
+    }
+
+    public static Path defaultPath(int size, int winLength) {
+        return directory().resolve(String.format("%dx%d-k%d.tb", size, size, winLength));
+    }
+
+    public static Path directory() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory == null || directory.isBlank()) {
+            return Path.of(System.getProperty("user.home"), ".tictactoe", "tablebases");
+        }
+        return Path.of(directory).toAbsolutePath().normalize();
+    }
+
+    public static Tablebase open(int size, int winLength) throws IOException {
+        try {
+            return OPEN.computeIfAbsent(defaultPath(size, winLength), path -> {
+                try {
+                    return loadOrGenerate(size, winLength, path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Tablebase loadOrGenerate(int size, int winLength, Path path) throws IOException {
+        if (Files.exists(path)) {
+            try {
+                Tablebase tablebase = load(path);
+                if (tablebase.size == size && tablebase.winLength == winLength) {
+                    return tablebase;
+                }
+            } catch (IOException e) {
+                // Stale or damaged file; regenerate it below.
+            }
+        }
+        generate(size, winLength, path);
+        return load(path);
+    }
+
+    public static Tablebase load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.capacity() < HEADER_BYTES || mapped.getInt(0) != MAGIC) {
+                throw new IOException("Not a tablebase file: " + path);
+            }
+            int size = mapped.getInt(4);
+            int winLength = mapped.getInt(8);
+            int count = mapped.getInt(12);
+            if (!supports(size) || count < 0 || mapped.capacity() != length(size * size, count)) {
+                throw new IOException("Truncated or unsupported tablebase: " + path);
+            }
+            int words = wordCount(size * size);
+            int ranksOffset = HEADER_BYTES + words * Long.BYTES;
+            int valuesOffset = ranksOffset + blockCount(words) * Integer.BYTES;
+            return new Tablebase(size, winLength,
+                    mapped.slice(HEADER_BYTES, words * Long.BYTES).asLongBuffer(),
+                    mapped.slice(ranksOffset, blockCount(words) * Integer.BYTES).asIntBuffer(),
+                    mapped.slice(valuesOffset, count));
+        }
+    }
+
+    public static void generate(int size, int winLength, Path path) throws IOException {
+        if (!supports(size)) {
+            throw new IllegalArgumentException("Tablebases are limited to " + MAX_CELLS + " cells");
+        }
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        ByteBuffer solved = ByteBuffer.allocate((int) positionCount(size * size));
+        new TablebaseGenerator(size, winLength, powers(size), solved).solve();
+        int count = 0;
+        for (int index = 0; index < solved.capacity(); index++) {
+            if (solved.get(index) != 0) {
+                count++;
+            }
+        }
+
+        int words = wordCount(size * size);
+        int ranksOffset = HEADER_BYTES + words * Long.BYTES;
+        int valuesOffset = ranksOffset + blockCount(words) * Integer.BYTES;
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, length(size * size, count));
+                LongBuffer present = mapped.slice(HEADER_BYTES, words * Long.BYTES).asLongBuffer();
+                IntBuffer ranks = mapped.slice(ranksOffset, blockCount(words) * Integer.BYTES).asIntBuffer();
+                ByteBuffer values = mapped.slice(valuesOffset, count);
+                int rank = 0;
+                for (int word = 0; word < words; word++) {
+                    if (word % BLOCK_WORDS == 0) {
+                        ranks.put(word / BLOCK_WORDS, rank);
+                    }
+                    long bits = 0;
+                    for (int bit = 0; bit < Long.SIZE; bit++) {
+                        int index = word * Long.SIZE + bit;
+                        if (index < solved.capacity() && solved.get(index) != 0) {
+                            bits |= 1L << bit;
+                            values.put(rank++, solved.get(index));
+                        }
+                    }
+                    present.put(word, bits);
+                }
+                mapped.putInt(4, size);
+                mapped.putInt(8, winLength);
+                mapped.putInt(12, count);
+                mapped.putInt(0, MAGIC);
+                mapped.force();
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int probe(Board board) {
+        int[] indices = new int[BoardSymmetry.TRANSFORM_COUNT];
+        for (int index = 0; index < cellCount; index++) {
+            int owner = board.getOwner(index);
+            if (owner >= 0) {
+                addDigit(indices, index, owner + 1);
+            }
+        }
+        return valueOf(canonical(indices));
+    }
+
+    public int bestMove(Board board) {
+        int[] indices = new int[BoardSymmetry.TRANSFORM_COUNT];
+        int filled = 0;
+        for (int index = 0; index < cellCount; index++) {
+            int owner = board.getOwner(index);
+            if (owner >= 0) {
+                addDigit(indices, index, owner + 1);
+                filled++;
+            }
+        }
+        int side = filled & 1;
+
+        int bestMove = -1;
+        int bestRank = Integer.MIN_VALUE;
+        for (int position = 0; position < board.getEmptyCount(); position++) {
+            int index = board.getEmptyCell(position);
+            board.makeMove(index, side);
+            boolean wins = board.hasCompleteLine(index, side);
+            boolean full = board.isFull();
+            board.unmakeMove();
+
+            int rank;
+            if (wins) {
+                return index;
+            } else if (full) {
+                rank = rank(DRAW, 1);
+            } else {
+                int child = Integer.MAX_VALUE;
+                for (int transform = 0; transform < indices.length; transform++) {
+                    child = Math.min(child, indices[transform] + (side + 1) * powers[transform][index]);
+                }
+                int entry = valueOf(child);
+                rank = resultOf(entry) == UNKNOWN ? Integer.MIN_VALUE + 1
+                        : rank(invert(resultOf(entry)), distanceOf(entry) + 1);
+            }
+            if (rank > bestRank) {
+                bestRank = rank;
+                bestMove = index;
+            }
+        }
+        return bestMove;
+    }
+
+    public static int resultOf(int entry) {
+        return entry & 0x3;
+    }
+
+    public static int distanceOf(int entry) {
+        return (entry & 0xFF) >>> 2;
+    }
+
+    static int entry(int result, int distance) {
+        return result | distance << 2;
+    }
+
+    static int invert(int result) {
+        return result == WIN ? LOSS : result == LOSS ? WIN : result;
+    }
+
+    static int rank(int result, int distance) {
+        return result == WIN ? 100 - distance : result == LOSS ? distance - 100 : 0;
+    }
+
+    private static int wordCount(int cellCount) {
+        return (int) ((positionCount(cellCount) + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    private static int blockCount(int words) {
+        return (words + BLOCK_WORDS - 1) / BLOCK_WORDS;
+    }
+
+    private static long length(int cellCount, int count) {
+        int words = wordCount(cellCount);
+        return HEADER_BYTES + (long) words * Long.BYTES + (long) blockCount(words) * Integer.BYTES + count;
+    }
+
+    static long positionCount(int cellCount) {
+        long count = 1;
+        for (int i = 0; i < cellCount; i++) {
+            count *= 3;
+        }
+        return count;
+    }
+
+    private int valueOf(int key) {
+        int word = key >>> 6;
+        long bits = present.get(word);
+        long bit = 1L << key;
+        if ((bits & bit) == 0) {
+            return UNKNOWN;
+        }
+        int rank = ranks.get(word / BLOCK_WORDS);
+        for (int before = word - word % BLOCK_WORDS; before < word; before++) {
+            rank += Long.bitCount(present.get(before));
+        }
+        return values.get(rank + Long.bitCount(bits & (bit - 1)));
+    }
+
+    private void addDigit(int[] indices, int index, int digit) {
+        for (int transform = 0; transform < indices.length; transform++) {
+            indices[transform] += digit * powers[transform][index];
+        }
+    }
+
+    private static int canonical(int[] indices) {
+        int min = indices[0];
+        for (int i = 1; i < indices.length; i++) {
+            min = Math.min(min, indices[i]);
+        }
+        return min;
+    }
+
+    private static int[][] powers(int size) {
+        BoardSymmetry symmetry = BoardSymmetry.of(size);
+        int cellCount = size * size;
+        int[][] powers = new int[BoardSymmetry.TRANSFORM_COUNT][cellCount];
+        for (int transform = 0; transform < BoardSymmetry.TRANSFORM_COUNT; transform++) {
+            for (int index = 0; index < cellCount; index++) {
+                powers[transform][index] = (int) positionCount(symmetry.apply(transform, index));
+            }
+        }
+        return powers;
+    }
+}
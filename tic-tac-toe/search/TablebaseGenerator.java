@@ -0,0 +1,92 @@
+package search;
+
+import model.BoardGeometry;
+
+import java.nio.ByteBuffer;
+
+final class TablebaseGenerator {
+    private final int cellCount;
+    private final int[][] powers;
+    private final ByteBuffer values;
+    private final int[][] cellLineMasks;
+    private final int[] indices;
+    private final int[] bits;
+
+    TablebaseGenerator(int size, int winLength, int[][] powers, ByteBuffer values) {
+        BoardGeometry geometry = BoardGeometry.of(size, winLength);
+        this.cellCount = size * size;
+        this.powers = powers;
+        this.values = values;
+        this.cellLineMasks = new int[cellCount][];
+        for (int index = 0; index < cellCount; index++) {
+            int[] lines = geometry.getCellLines(index);
+            cellLineMasks[index] = new int[lines.length];
+            for (int i = 0; i < lines.length; i++) {
+                for (int cell : geometry.getLineCells(lines[i])) {
+                    cellLineMasks[index][i] |= 1 << cell;
+                }
+            }
+        }
+        this.indices = new int[powers.length];
+        this.bits = new int[2];
+    }
+
+    void solve() {
+        solve(0, 0);
+    }
+
+    private int solve(int side, int filled) {
+        int canonical = indices[0];
+        for (int i = 1; i < indices.length; i++) {
+            canonical = Math.min(canonical, indices[i]);
+        }
+        int cached = values.get(canonical);
+        if (cached != 0) {
+            return cached;
+        }
+
+        int occupied = bits[0] | bits[1];
+        int bestRank = Integer.MIN_VALUE;
+        int bestEntry = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if ((occupied & (1 << index)) != 0) {
+                continue;
+            }
+            int entry;
+            bits[side] |= 1 << index;
+            if (completesLine(index, bits[side])) {
+                entry = Tablebase.entry(Tablebase.WIN, 1);
+            } else if (filled + 1 == cellCount) {
+                entry = Tablebase.entry(Tablebase.DRAW, 1);
+            } else {
+                int digit = side + 1;
+                for (int transform = 0; transform < indices.length; transform++) {
+                    indices[transform] += digit * powers[transform][index];
+                }
+                int child = solve(1 - side, filled + 1);
+                for (int transform = 0; transform < indices.length; transform++) {
+                    indices[transform] -= digit * powers[transform][index];
+                }
+                entry = Tablebase.entry(Tablebase.invert(Tablebase.resultOf(child)), Tablebase.distanceOf(child) + 1);
+            }
+            bits[side] &= ~(1 << index);
+
+            int rank = Tablebase.rank(Tablebase.resultOf(entry), Tablebase.distanceOf(entry));
+            if (rank > bestRank) {
+                bestRank = rank;
+                bestEntry = entry;
+            }
+        }
+        values.put(canonical, (byte) bestEntry);
+        return bestEntry;
+    }
+
+    private boolean completesLine(int index, int playerBits) {
+        for (int mask : cellLineMasks[index]) {
+            if ((playerBits & mask) == mask) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
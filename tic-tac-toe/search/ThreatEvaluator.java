@@ -0,0 +1,174 @@
+package search;
+
+import model.Board;
+import model.BoardGeometry;
+import model.BoardListener;
+
+import java.util.Arrays;
+
+public class ThreatEvaluator implements Evaluator, BoardListener {
+    public static final int MAX_SCORE = NegamaxSearch.WIN_THRESHOLD - 1;
+
+    private static final int NO_OWNER = -1;
+    private static final int MIXED = -2;
+
+    private Board board;
+    private BoardGeometry geometry;
+    private int winLength;
+    private long[] weights;
+    private int[] lineTotals;
+    private int[] lineOwners;
+    private long[] scores;
+    private int[] threats;
+
+    @Override
+    public void attach(Board board) {
+        if (this.board != null) {
+            detach(this.board);
+        }
+        this.board = board;
+        this.geometry = board.getGeometry();
+        this.winLength = geometry.getWinLength();
+        this.weights = new long[winLength + 1];
+        for (int count = 1; count <= winLength; count++) {
+            weights[count] = 1L << (2 * (count - 1));
+        }
+        if (lineTotals == null || lineTotals.length != geometry.getLineCount()) {
+            lineTotals = new int[geometry.getLineCount()];
+            lineOwners = new int[geometry.getLineCount()];
+        }
+        scores = new long[Math.max(2, board.getSlotCount())];
+        threats = new int[scores.length];
+        recompute();
+        board.addListener(this);
+    }
+
+    @Override
+    public void detach(Board board) {
+        board.removeListener(this);
+        if (this.board == board) {
+            this.board = null;
+        }
+    }
+
+    @Override
+    public int evaluate(Board board, int side, int other) {
+        if (threats[side] > 0) {
+            return MAX_SCORE;
+        }
+        long score = scores[side] - scores[other];
+        return (int) Math.max(-MAX_SCORE, Math.min(MAX_SCORE, score));
+    }
+
+    public long getScore(int slot) {
+        return slot < scores.length ? scores[slot] : 0;
+    }
+
+    public int getThreatCount(int slot) {
+        return slot < threats.length ? threats[slot] : 0;
+    }
+
+    @Override
+    public void onPlace(int index, int slot) {
+        ensureSlot(slot);
+        for (int line : geometry.getCellLines(index)) {
+            int total = ++lineTotals[line];
+            int owner = lineOwners[line];
+            if (owner == NO_OWNER) {
+                lineOwners[line] = slot;
+                grow(slot, 1);
+            } else if (owner == slot) {
+                grow(slot, total);
+            } else if (owner != MIXED) {
+                drop(owner, total - 1);
+                lineOwners[line] = MIXED;
+            }
+        }
+    }
+
+    @Override
+    public void onClear(int index, int slot) {
+        for (int line : geometry.getCellLines(index)) {
+            int total = --lineTotals[line];
+            if (lineOwners[line] == slot) {
+                shrink(slot, total + 1);
+                if (total == 0) {
+                    lineOwners[line] = NO_OWNER;
+                }
+            } else if (board.getLineCount(slot, line) == 0) {
+                int owner = soleOwner(line, total);
+                if (owner >= 0) {
+                    lineOwners[line] = owner;
+                    add(owner, total);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onReset() {
+        Arrays.fill(lineTotals, 0);
+        Arrays.fill(lineOwners, NO_OWNER);
+        Arrays.fill(scores, 0);
+        Arrays.fill(threats, 0);
+    }
+
+    private void recompute() {
+        onReset();
+        for (int line = 0; line < lineTotals.length; line++) {
+            int total = 0;
+            for (int slot = 0; slot < board.getSlotCount(); slot++) {
+                total += board.getLineCount(slot, line);
+            }
+            lineTotals[line] = total;
+            if (total > 0) {
+                int owner = soleOwner(line, total);
+                lineOwners[line] = owner >= 0 ? owner : MIXED;
+                if (owner >= 0) {
+                    add(owner, total);
+                }
+            }
+        }
+    }
+
+    private int soleOwner(int line, int total) {
+        for (int slot = 0; slot < board.getSlotCount(); slot++) {
+            int count = board.getLineCount(slot, line);
+            if (count > 0) {
+                return count == total ? slot : MIXED;
+            }
+        }
+        return NO_OWNER;
+    }
+
+    private void grow(int slot, int count) {
+        drop(slot, count - 1);
+        add(slot, count);
+    }
+
+    private void shrink(int slot, int count) {
+        drop(slot, count);
+        add(slot, count - 1);
+    }
+
+    private void add(int slot, int count) {
+        scores[slot] += weights[count];
+        if (count == winLength - 1) {
+            threats[slot]++;
+        }
+    }
+
+    private void drop(int slot, int count) {
+        scores[slot] -= weights[count];
+        if (count == winLength - 1) {
+            threats[slot]--;
+        }
+    }
+
+    private void ensureSlot(int slot) {
+        if (slot >= scores.length) {
+            scores = Arrays.copyOf(scores, slot + 1);
+            threats = Arrays.copyOf(threats, slot + 1);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package search;
+
+public interface TranspositionTable {
+    int EXACT = 0;
+    int LOWER_BOUND = 1;
+    int UPPER_BOUND = 2;
+    long MISS = 0L;
+    int MAX_DEPTH = 0xFF;
+
+    long probe(long key);
+
+    void store(long key, int score, int depth, int bound, int bestMove);
+
+    void clear();
+
+    int capacity();
+
+    default void newSearch() {
+    }
+
+    static long pack(int score, int depth, int bound, int bestMove) {
+        // Deeper results are stored as MAX_DEPTH, which only understates how much they prove.
+        int storedDepth = Math.max(0, Math.min(depth, MAX_DEPTH));
+        return (score & 0xFFFFL)
+                | ((long) storedDepth << 16)
+                | ((long) (bound & 0x3) << 24)
+                | ((long) ((bestMove + 1) & 0xFFFF) << 26)
+                | (1L << 63);
+    }
+
+    static int scoreOf(long data) {
+        return (short) data;
+    }
+
+    static int depthOf(long data) {
+        return (int) (data >>> 16) & 0xFF;
+    }
+
+    static int boundOf(long data) {
+        return (int) (data >>> 24) & 0x3;
+    }
+
+    static int bestMoveOf(long data) {
+        return ((int) (data >>> 26) & 0xFFFF) - 1;
+    }
+}
@@ -0,0 +1,173 @@
+package server;
+
+import enums.PlayerType;
+import exception.GameException;
+import exception.InvalidMoveException;
+import model.Board;
+import model.GameState;
+import model.Move;
+import model.Player;
+import persistence.GameJournal;
+import persistence.GameSnapshot;
+import service.GameService;
+import service.ValidationService;
+import strategy.NetworkPlayerStrategy;
+import strategy.PlayerStrategy;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+public class GameSession {
+    private final long id;
+    private final GameState gameState;
+    private final GameService gameService;
+    private final ValidationService validationService;
+    private final SerialExecutor executor;
+    private final GameJournal journal;
+    private int journaledMoves;
+    private boolean resultJournaled;
+    private volatile Consumer<GameState> updateListener;
+
+    GameSession(long id, GameState gameState, GameService gameService, Executor executor,
+                GameJournal journal, int journaledMoves) {
+        this.id = id;
+        this.gameState = gameState;
+        this.gameService = gameService;
+        this.validationService = new ValidationService();
+        this.executor = new SerialExecutor(executor);
+        this.journal = journal;
+        this.journaledMoves = journaledMoves;
+        this.resultJournaled = gameState.isGameOver() && journaledMoves == gameState.getMoveCount();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setUpdateListener(Consumer<GameState> updateListener) {
+        this.updateListener = updateListener;
+    }
+
+    public CompletableFuture<GameState> submitMove(char symbol, int row, int col) {
+        return submit(state -> {
+            applyMove(symbol, row, col);
+            playAutomatedTurns();
+            journalProgress();
+            notifyUpdate();
+            return state;
+        });
+    }
+
+    public CompletableFuture<GameState> start() {
+        return submit(state -> {
+            playAutomatedTurns();
+            journalProgress();
+            notifyUpdate();
+            return state;
+        });
+    }
+
+    public CompletableFuture<byte[]> checkpoint() {
+        return submit(GameSnapshot::encode);
+    }
+
+    public CompletableFuture<GameState> close() {
+        return submit(state -> {
+            if (!state.isGameOver()) {
+                gameService.abandonGame(state);
+                journalProgress();
+            }
+            return state;
+        });
+    }
+
+    void stopThinking() {
+        gameService.endGame(gameState);
+    }
+
+    public <T> CompletableFuture<T> submit(SessionAction<T> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(action.apply(gameState));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private void applyMove(char symbol, int row, int col) throws GameException {
+        if (gameState.isGameOver()) {
+            throw new InvalidMoveException("Game is already over");
+        }
+        Player currentPlayer = gameState.getCurrentPlayer();
+        if (currentPlayer.getSymbol() != symbol) {
+            throw new InvalidMoveException(
+                String.format("It is %s's turn, not '%c'", currentPlayer.getName(), symbol));
+        }
+
+        Board board = gameState.getBoard();
+        validationService.validateMove(board, row, col);
+
+        if (currentPlayer.getPlayerStrategy() instanceof NetworkPlayerStrategy network) {
+            network.offer(row, col);
+            return;
+        }
+
+        Move move = new Move(currentPlayer, board.getCell(row, col));
+        gameService.executeMove(gameState, move);
+        gameService.checkGameStatus(gameState, move);
+        if (!gameState.isGameOver()) {
+            gameState.switchPlayer();
+        }
+    }
+
+    private void playAutomatedTurns() {
+        while (!gameState.isGameOver() && isReadyToMove(gameState.getCurrentPlayer())) {
+            gameService.playTurn(gameState);
+        }
+    }
+
+    private boolean isReadyToMove(Player player) {
+        PlayerStrategy strategy = player.getPlayerStrategy();
+        if (strategy instanceof NetworkPlayerStrategy network) {
+            return network.hasPendingMove();
+        }
+        return player.getPlayerType() != PlayerType.HUMAN;
+    }
+
+    private void journalProgress() throws GameException {
+        if (journal == null) {
+            return;
+        }
+        try {
+            int moveCount = gameState.getMoveCount();
+            if (moveCount > journaledMoves) {
+                List<Move> history = gameState.getMoveHistory();
+                for (int i = journaledMoves; i < moveCount; i++) {
+                    journal.recordMove(id, history.get(i).getCell().getIndex());
+                }
+                journaledMoves = moveCount;
+            }
+            if (gameState.isGameOver() && !resultJournaled) {
+                Player winner = gameState.getWinner();
+                journal.recordResult(id, gameState.getStatus(),
+                    winner == null ? -1 : gameState.getPlayers().indexOf(winner));
+                resultJournaled = true;
+            }
+        } catch (IOException e) {
+            throw new GameException("Failed to journal game " + id, e);
+        }
+    }
+
+    private void notifyUpdate() {
+        Consumer<GameState> listener = updateListener;
+        if (listener != null) {
+            listener.accept(gameState);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package server;
+
+import enums.PlayerType;
+import exception.GameException;
+import model.Board;
+import model.GameState;
+import model.Player;
+import persistence.GameJournal;
+import persistence.GameSnapshot;
+import persistence.JournalReader;
+import service.GameService;
+import service.ValidationService;
+import strategy.LineCounterWinningStrategy;
+import strategy.PlayerStrategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class GameSessionManager implements AutoCloseable {
+    private final ConcurrentMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final GameService gameService;
+    private final ValidationService validationService;
+    private final ExecutorService executor;
+    private final GameJournal journal;
+
+    public GameSessionManager() {
+        this(SessionExecutors.newSessionExecutor());
+    }
+
+    public GameSessionManager(ExecutorService executor) {
+        this(executor, null);
+    }
+
+    public GameSessionManager(ExecutorService executor, GameJournal journal) {
+        this.gameService = new GameService(new LineCounterWinningStrategy());
+        this.validationService = new ValidationService();
+        this.executor = executor;
+        this.journal = journal;
+    }
+
+    public GameSession createSession(int boardSize, List<Player> players) throws GameException {
+        return createSession(boardSize, boardSize, players);
+    }
+
+    public GameSession createSession(int boardSize, int winLength, List<Player> players) throws GameException {
+        validationService.validateBoardSize(boardSize);
+        validationService.validateWinLength(boardSize, winLength);
+        GameState gameState = gameService.initializeGame(new Board(boardSize, winLength), players);
+        return register(gameState);
+    }
+
+    public GameSession restoreSession(ByteBuffer snapshot, Function<PlayerType, PlayerStrategy> strategies)
+            throws GameException {
+        return register(GameSnapshot.decode(snapshot, strategies));
+    }
+
+    public int recover(JournalReader reader) throws GameException {
+        Map<Long, GameState> games;
+        try {
+            games = reader.replay();
+        } catch (IOException e) {
+            throw new GameException("Failed to read journal", e);
+        }
+
+        for (Map.Entry<Long, GameState> game : games.entrySet()) {
+            if (game.getValue().isGameOver()) {
+                continue;
+            }
+            for (Player player : game.getValue().getPlayers()) {
+                if (player.getPlayerType() != PlayerType.HUMAN && player.getPlayerStrategy() == null) {
+                    throw new GameException("Cannot recover game " + game.getKey() + " without a strategy for "
+                            + player.getName() + "; create the JournalReader with a strategy factory");
+                }
+            }
+        }
+
+        int recovered = 0;
+        for (Map.Entry<Long, GameState> game : games.entrySet()) {
+            long id = game.getKey();
+            nextId.accumulateAndGet(id + 1, Math::max);
+            if (!game.getValue().isGameOver() && !sessions.containsKey(id)) {
+                GameState gameState = game.getValue();
+                register(new GameSession(id, gameState, gameService, executor, journal, gameState.getMoveCount()));
+                recovered++;
+            }
+        }
+        return recovered;
+    }
+
+    private GameSession register(GameState gameState) throws GameException {
+        long id = nextId.getAndIncrement();
+        if (journal != null) {
+            try {
+                Board board = gameState.getBoard();
+                journal.recordGameCreated(id, board.getSize(), board.getWinLength(), gameState.getPlayers());
+            } catch (IOException e) {
+                throw new GameException("Failed to journal game " + id, e);
+            }
+        }
+        return register(new GameSession(id, gameState, gameService, executor, journal, 0));
+    }
+
+    private GameSession register(GameSession session) {
+        sessions.put(session.getId(), session);
+        session.start();
+        return session;
+    }
+
+    public GameSession getSession(long id) throws GameException {
+        GameSession session = sessions.get(id);
+        if (session == null) {
+            throw new GameException("Unknown game session " + id);
+        }
+        return session;
+    }
+
+    public CompletableFuture<GameState> submitMove(long id, char symbol, int row, int col) {
+        GameSession session = sessions.get(id);
+        if (session == null) {
+            return CompletableFuture.failedFuture(new GameException("Unknown game session " + id));
+        }
+        return session.submitMove(symbol, row, col);
+    }
+
+    public boolean closeSession(long id) {
+        GameSession session = sessions.remove(id);
+        if (session == null) {
+            return false;
+        }
+        session.close();
+        return true;
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public void close() {
+        sessions.values().forEach(GameSession::stopThinking);
+        sessions.clear();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,9 @@
+package server;
+
+import exception.GameException;
+import model.GameState;
+
+@FunctionalInterface
+public interface SessionAction<T> {
+    T apply(GameState gameState) throws GameException;
+}
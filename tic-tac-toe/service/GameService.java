@@ -2,19 +2,27 @@ package service;
 
 import enums.GameStatus;
 import exception.GameException;
+import exception.InvalidMoveException;
 import exception.InvalidPlayerException;
+import metrics.GameMetrics;
+import metrics.InstrumentedWinningStrategy;
 import model.*;
+import strategy.AsyncPlayerStrategy;
 import strategy.WinningStrategy;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public class GameService {
     private final WinningStrategy winningStrategy;
 
     public GameService(WinningStrategy winningStrategy) {
-        this.winningStrategy = winningStrategy;
+        this.winningStrategy = GameMetrics.ENABLED ? new InstrumentedWinningStrategy(winningStrategy) : winningStrategy;
     }
 
     public GameState initializeGame(Board board, List<Player> players) throws GameException {
@@ -23,6 +31,9 @@ public class GameService {
     }
 
     public void executeMove(GameState gameState, Move move) {
+        if (GameMetrics.ENABLED && gameState.getMoveCount() == 0) {
+            GameMetrics.get().gameStarted();
+        }
         gameState.getBoard().makeMove(move);
         gameState.addMove(move);
     }
@@ -31,12 +42,167 @@ public class GameService {
         if (winningStrategy.checkWinner(gameState.getBoard(), lastMove)) {
             gameState.setStatus(GameStatus.WON);
             gameState.setWinner(gameState.getCurrentPlayer());
-        } else if (gameState.getBoard().isFull()) {
+        } else if (winningStrategy.isDraw(gameState.getBoard())) {
             gameState.setStatus(GameStatus.DRAW);
         }
+        if (gameState.isGameOver()) {
+            endGame(gameState);
+            if (GameMetrics.ENABLED) {
+                GameMetrics.get().gameFinished();
+            }
+        }
+    }
+
+    public void endGame(GameState gameState) {
+        for (Player player : gameState.getPlayers()) {
+            if (player.getPlayerStrategy() != null) {
+                player.getPlayerStrategy().endGame();
+            }
+        }
+    }
+
+    public Move undoMove(GameState gameState) {
+        boolean wasOver = gameState.isGameOver();
+        Move move = gameState.undoMove();
+        if (GameMetrics.ENABLED && move != null) {
+            if (wasOver) {
+                GameMetrics.get().gameStarted();
+            }
+            if (gameState.getMoveCount() == 0) {
+                GameMetrics.get().gameFinished();
+            }
+        }
+        return move;
+    }
+
+    public Move redoMove(GameState gameState) {
+        Move move = gameState.peekRedoMove();
+        if (move == null) {
+            return null;
+        }
+        executeMove(gameState, move);
+        checkGameStatus(gameState, move);
+        if (!gameState.isGameOver()) {
+            gameState.switchPlayer();
+        }
+        return move;
     }
 
     public void playTurn(GameState gameState) {
+        if (GameMetrics.ENABLED) {
+            long start = System.nanoTime();
+            long allocated = GameMetrics.allocatedBytes();
+            playTurnUninstrumented(gameState);
+            GameMetrics.get().recordTurn(System.nanoTime() - start, GameMetrics.allocatedBytes() - allocated);
+        } else {
+            playTurnUninstrumented(gameState);
+        }
+    }
+
+    public CompletableFuture<Move> playTurnAsync(GameState gameState, Executor executor, long timeoutMillis) {
+        Player currentPlayer;
+        int moveCount;
+        synchronized (gameState) {
+            if (gameState.isGameOver()) {
+                return CompletableFuture.failedFuture(new InvalidMoveException("Game is already over"));
+            }
+            currentPlayer = gameState.getCurrentPlayer();
+            moveCount = gameState.getMoveCount();
+        }
+
+        CompletableFuture<Move> pending = AsyncPlayerStrategy.adapt(currentPlayer.getPlayerStrategy(), executor)
+                .makeMoveAsync(currentPlayer, gameState.getBoard());
+        if (timeoutMillis > 0) {
+            pending.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        CompletableFuture<Move> turn = pending.thenApplyAsync(move -> {
+            applyAsyncMove(gameState, currentPlayer, moveCount, move);
+            return move;
+        }, executor);
+        turn.whenComplete((move, error) -> {
+            if (turn.isCancelled()) {
+                pending.cancel(true);
+            }
+        });
+        return turn;
+    }
+
+    public CompletableFuture<GameState> playGameAsync(GameState gameState, Executor executor,
+                                                      long turnTimeoutMillis) {
+        CompletableFuture<GameState> game = new CompletableFuture<>();
+        CompletableFuture<?>[] currentTurn = new CompletableFuture<?>[1];
+        game.whenComplete((state, error) -> {
+            if (game.isCancelled()) {
+                CompletableFuture<?> turn;
+                synchronized (currentTurn) {
+                    turn = currentTurn[0];
+                }
+                if (turn != null) {
+                    turn.cancel(true);
+                }
+            }
+        });
+        playNextTurn(gameState, executor, turnTimeoutMillis, game, currentTurn);
+        return game;
+    }
+
+    private void playNextTurn(GameState gameState, Executor executor, long turnTimeoutMillis,
+                              CompletableFuture<GameState> game, CompletableFuture<?>[] currentTurn) {
+        while (!game.isDone()) {
+            boolean over;
+            synchronized (gameState) {
+                over = gameState.isGameOver();
+            }
+            if (over) {
+                game.complete(gameState);
+                return;
+            }
+            CompletableFuture<Move> turn = playTurnAsync(gameState, executor, turnTimeoutMillis);
+            synchronized (currentTurn) {
+                currentTurn[0] = turn;
+            }
+            if (game.isDone()) {
+                turn.cancel(true);
+                return;
+            }
+            if (!turn.isDone()) {
+                turn.whenCompleteAsync((move, error) -> {
+                    if (error != null) {
+                        game.completeExceptionally(error);
+                    } else {
+                        playNextTurn(gameState, executor, turnTimeoutMillis, game, currentTurn);
+                    }
+                }, executor);
+                return;
+            }
+            if (turn.isCompletedExceptionally()) {
+                turn.exceptionally(error -> {
+                    game.completeExceptionally(error);
+                    return null;
+                });
+                return;
+            }
+        }
+    }
+
+    private void applyAsyncMove(GameState gameState, Player player, int moveCount, Move move) {
+        synchronized (gameState) {
+            if (gameState.getMoveCount() != moveCount || gameState.getCurrentPlayer() != player) {
+                throw new CompletionException(new InvalidMoveException("Stale move from " + player.getName()));
+            }
+            if (!gameState.getBoard().isEmpty(move.getCell().getIndex())) {
+                throw new CompletionException(new InvalidMoveException(String.format(
+                    "Cell (%d, %d) is already occupied", move.getCell().getRow(), move.getCell().getCol())));
+            }
+            executeMove(gameState, move);
+            checkGameStatus(gameState, move);
+            if (!gameState.isGameOver()) {
+                gameState.switchPlayer();
+            }
+        }
+    }
+
+    private void playTurnUninstrumented(GameState gameState) {
         Player currentPlayer = gameState.getCurrentPlayer();
         Move move = currentPlayer.makeMove(gameState.getBoard());
 
@@ -48,7 +214,7 @@ public class GameService {
         }
     }
 
-    private void validatePlayers(List<Player> players) throws GameException {
+    static void validatePlayers(List<Player> players) throws GameException {
         if (players == null || players.size() < 2) {
             throw new InvalidPlayerException("Game requires at least 2 players");
         }
@@ -64,9 +230,19 @@ public class GameService {
         }
     }
 
+    public void abandonGame(GameState gameState) {
+        if (gameState.isGameOver()) {
+            return;
+        }
+        endGame(gameState);
+        if (GameMetrics.ENABLED && gameState.getMoveCount() > 0) {
+            GameMetrics.get().gameFinished();
+        }
+        gameState.setStatus(GameStatus.ABANDONED);
+    }
+
     public void resetGame(GameState gameState) {
-        gameState.getBoard().reset();
-        gameState.setStatus(GameStatus.IN_PROGRESS);
-        gameState.setWinner(null);
+        abandonGame(gameState);
+        gameState.reset();
     }
 }
\ No newline at end of file
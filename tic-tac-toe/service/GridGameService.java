@@ -0,0 +1,66 @@
+package service;
+
+import enums.GameStatus;
+import exception.GameException;
+import exception.InvalidMoveException;
+import exception.InvalidPlayerException;
+import model.GridBoard;
+import model.GridGameState;
+import model.Player;
+import strategy.GridPlayerStrategy;
+import strategy.WinningStrategy;
+
+import java.util.List;
+
+public class GridGameService {
+    private final WinningStrategy winningStrategy;
+    private final ValidationService validationService;
+
+    public GridGameService(WinningStrategy winningStrategy) {
+        this.winningStrategy = winningStrategy;
+        this.validationService = new ValidationService();
+    }
+
+    public GridGameState initializeGame(GridBoard board, List<Player> players) throws GameException {
+        GameService.validatePlayers(players);
+        for (Player player : players) {
+            if (!(player.getPlayerStrategy() instanceof GridPlayerStrategy)) {
+                throw new InvalidPlayerException(player.getName() + " cannot play on this board");
+            }
+        }
+        return new GridGameState(board, players);
+    }
+
+    public void playTurn(GridGameState gameState) {
+        Player player = gameState.getCurrentPlayer();
+        GridPlayerStrategy strategy = (GridPlayerStrategy) player.getPlayerStrategy();
+        long cell = strategy.chooseCell(player, gameState.getBoard());
+        try {
+            applyMove(gameState, GridBoard.rowOf(cell), GridBoard.colOf(cell));
+        } catch (InvalidMoveException e) {
+            throw new IllegalStateException(player.getName() + " chose an illegal cell", e);
+        }
+    }
+
+    public void applyMove(GridGameState gameState, int row, int col) throws InvalidMoveException {
+        if (gameState.isGameOver()) {
+            throw new InvalidMoveException("Game is already over");
+        }
+        GridBoard board = gameState.getBoard();
+        validationService.validateMove(board, row, col);
+        board.makeMove(row, col, board.registerSymbol(gameState.getCurrentPlayer().getSymbol()));
+
+        if (winningStrategy.checkWinner(board, row, col)) {
+            gameState.setStatus(GameStatus.WON);
+            gameState.setWinner(gameState.getCurrentPlayer());
+        } else if (winningStrategy.isDraw(board)) {
+            gameState.setStatus(GameStatus.DRAW);
+        } else {
+            gameState.switchPlayer();
+        }
+    }
+
+    public void resetGame(GridGameState gameState) {
+        gameState.reset();
+    }
+}
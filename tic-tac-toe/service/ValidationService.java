@@ -1,6 +1,8 @@
 package service;
 
 import exception.GameException;
+import exception.InvalidMoveException;
+import model.GridBoard;
 
 public class ValidationService {
 
@@ -8,8 +10,32 @@ public class ValidationService {
         if (size < 3) {
             throw new GameException("Board size must be at least 3x3");
         }
-        if (size > 10) {
-            throw new GameException("Board size cannot exceed 10x10");
+        if (size > 19) {
+            throw new GameException("Board size cannot exceed 19x19");
+        }
+    }
+
+    public void validateWinLength(int size, int winLength) throws GameException {
+        if (winLength < 3) {
+            throw new GameException("Win length must be at least 3");
+        }
+        if (winLength > size) {
+            throw new GameException(String.format(
+                "Win length %d cannot exceed the board size %d", winLength, size));
+        }
+    }
+
+    public void validateSparseBoard(int rows, int cols, int winLength) throws GameException {
+        if (winLength < 3) {
+            throw new GameException("Win length must be at least 3");
+        }
+        boolean unbounded = rows == GridBoard.UNBOUNDED || cols == GridBoard.UNBOUNDED;
+        if (!unbounded && (rows < 1 || cols < 1)) {
+            throw new GameException("Board dimensions must be positive, or unbounded");
+        }
+        if (!unbounded && winLength > Math.max(rows, cols)) {
+            throw new GameException(String.format(
+                "Win length %d does not fit a %dx%d board", winLength, rows, cols));
         }
     }
 
@@ -30,4 +56,21 @@ public class ValidationService {
             throw new GameException("Symbol must be alphanumeric or one of: !@#$%^&*");
         }
     }
+
+    public void validateMove(GridBoard board, int row, int col) throws InvalidMoveException {
+        if (!board.isValidPosition(row, col)) {
+            throw new InvalidMoveException(String.format(
+                "Position (%d, %d) is out of bounds. Valid range: %s",
+                row, col, board.getRows() == board.getCols()
+                    ? "0-" + (board.getRows() - 1)
+                    : String.format("rows 0-%d, columns 0-%d", board.getRows() - 1, board.getCols() - 1)
+            ));
+        }
+
+        if (!board.isEmpty(row, col)) {
+            throw new InvalidMoveException(String.format(
+                "Cell (%d, %d) is already occupied", row, col
+            ));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package simulation;
+
+import strategy.PlayerStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+public class SimulationConfig {
+    private final int boardSize;
+    private final long games;
+    private final int threads;
+    private final long seed;
+    private final boolean alternateFirstPlayer;
+    private final long reportIntervalMillis;
+    private final List<LongFunction<PlayerStrategy>> strategyFactories;
+
+    public SimulationConfig(int boardSize, long games, int threads, long seed, boolean alternateFirstPlayer,
+                            long reportIntervalMillis, List<LongFunction<PlayerStrategy>> strategyFactories) {
+        this.boardSize = boardSize;
+        this.games = games;
+        this.threads = threads;
+        this.seed = seed;
+        this.alternateFirstPlayer = alternateFirstPlayer;
+        this.reportIntervalMillis = reportIntervalMillis;
+        this.strategyFactories = new ArrayList<>(strategyFactories);
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isAlternateFirstPlayer() {
+        return alternateFirstPlayer;
+    }
+
+    public long getReportIntervalMillis() {
+        return reportIntervalMillis;
+    }
+
+    public List<LongFunction<PlayerStrategy>> getStrategyFactories() {
+        return new ArrayList<>(strategyFactories);
+    }
+}
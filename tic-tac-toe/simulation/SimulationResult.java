@@ -0,0 +1,55 @@
+package simulation;
+
+public class SimulationResult {
+    private final long games;
+    private final long[] wins;
+    private final long draws;
+    private final long totalMoves;
+    private final long elapsedNanos;
+
+    public SimulationResult(long games, long[] wins, long draws, long totalMoves, long elapsedNanos) {
+        this.games = games;
+        this.wins = wins.clone();
+        this.draws = draws;
+        this.totalMoves = totalMoves;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins(int strategyIndex) {
+        return wins[strategyIndex];
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public double getWinRate(int strategyIndex) {
+        return games == 0 ? 0.0 : (double) wins[strategyIndex] / games;
+    }
+
+    public double getDrawRate() {
+        return games == 0 ? 0.0 : (double) draws / games;
+    }
+
+    public double getAverageLength() {
+        return games == 0 ? 0.0 : (double) totalMoves / games;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rates = new StringBuilder();
+        for (int i = 0; i < wins.length; i++) {
+            rates.append(String.format("P%d %.2f%%, ", i + 1, getWinRate(i) * 100));
+        }
+        return String.format("%d games | wins: %sdraws %.2f%% | avg length %.2f | %.0f games/sec",
+                games, rates, getDrawRate() * 100, getAverageLength(), getGamesPerSecond());
+    }
+}
@@ -0,0 +1,173 @@
+package simulation;
+
+import enums.PlayerType;
+import exception.GameException;
+import metrics.GameMetrics;
+import model.Board;
+import model.GameState;
+import model.Player;
+import service.GameService;
+import strategy.AIPlayerStrategy;
+import strategy.LineCounterWinningStrategy;
+import strategy.PlayerStrategy;
+import strategy.RandomPlayerStrategy;
+import strategy.ThinkingOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+public class SimulationRunner {
+    private static final char[] SYMBOLS = {'X', 'O', '#', '@', '$', '%', '&', '*'};
+
+    private final GameService gameService;
+
+    public SimulationRunner() {
+        this.gameService = new GameService(new LineCounterWinningStrategy());
+    }
+
+    public SimulationResult run(SimulationConfig config, Consumer<SimulationResult> progressListener)
+            throws GameException {
+        int strategyCount = config.getStrategyFactories().size();
+        if (strategyCount < 2 || strategyCount > SYMBOLS.length) {
+            throw new GameException("Simulation requires between 2 and " + SYMBOLS.length + " strategies");
+        }
+
+        Statistics statistics = new Statistics(strategyCount);
+        ExecutorService workers = Executors.newFixedThreadPool(config.getThreads());
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        if (progressListener != null && config.getReportIntervalMillis() > 0) {
+            reporter.scheduleAtFixedRate(() -> progressListener.accept(statistics.snapshot()),
+                    config.getReportIntervalMillis(), config.getReportIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int worker = 0; worker < config.getThreads(); worker++) {
+                GameState[] seatings = createSeatings(config, worker);
+                int firstGame = worker;
+                futures.add(workers.submit(() -> playGames(config, seatings, firstGame, statistics)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GameException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new GameException("Simulation failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            workers.shutdownNow();
+            reporter.shutdownNow();
+        }
+
+        SimulationResult result = statistics.snapshot();
+        if (progressListener != null) {
+            progressListener.accept(result);
+        }
+        return result;
+    }
+
+    private GameState[] createSeatings(SimulationConfig config, int worker) throws GameException {
+        List<LongFunction<PlayerStrategy>> factories = config.getStrategyFactories();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < factories.size(); i++) {
+            long seed = config.getSeed() * 31 + worker * 1_000_003L + i;
+            PlayerStrategy strategy = factories.get(i).apply(seed);
+            players.add(new Player("P" + (i + 1), SYMBOLS[i], PlayerType.AI, strategy));
+        }
+
+        int seatingCount = config.isAlternateFirstPlayer() ? players.size() : 1;
+        GameState[] seatings = new GameState[seatingCount];
+        for (int seating = 0; seating < seatingCount; seating++) {
+            List<Player> order = new ArrayList<>(players.subList(seating, players.size()));
+            order.addAll(players.subList(0, seating));
+            seatings[seating] = gameService.initializeGame(new Board(config.getBoardSize()), order);
+        }
+        return seatings;
+    }
+
+    private void playGames(SimulationConfig config, GameState[] seatings, int firstGame, Statistics statistics) {
+        for (long game = firstGame; game < config.getGames(); game += config.getThreads()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            GameState gameState = seatings[(int) (game % seatings.length)];
+            gameService.resetGame(gameState);
+            while (!gameState.isGameOver()) {
+                gameService.playTurn(gameState);
+            }
+            statistics.record(gameState);
+        }
+    }
+
+    private static final class Statistics {
+        private final long startNanos = System.nanoTime();
+        private final LongAdder games = new LongAdder();
+        private final LongAdder draws = new LongAdder();
+        private final LongAdder moves = new LongAdder();
+        private final LongAdder[] wins;
+
+        Statistics(int strategyCount) {
+            this.wins = new LongAdder[strategyCount];
+            for (int i = 0; i < strategyCount; i++) {
+                wins[i] = new LongAdder();
+            }
+        }
+
+        void record(GameState gameState) {
+            moves.add(gameState.getMoveCount());
+            Player winner = gameState.getWinner();
+            if (winner == null) {
+                draws.increment();
+            } else {
+                wins[indexOfSymbol(winner.getSymbol())].increment();
+            }
+            games.increment();
+        }
+
+        SimulationResult snapshot() {
+            long[] winCounts = new long[wins.length];
+            for (int i = 0; i < wins.length; i++) {
+                winCounts[i] = wins[i].sum();
+            }
+            return new SimulationResult(games.sum(), winCounts, draws.sum(), moves.sum(),
+                    System.nanoTime() - startNanos);
+        }
+
+        private static int indexOfSymbol(char symbol) {
+            for (int i = 0; i < SYMBOLS.length; i++) {
+                if (SYMBOLS[i] == symbol) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Unknown symbol " + symbol);
+        }
+    }
+
+    public static void main(String[] args) throws GameException {
+        int boardSize = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        long games = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        List<LongFunction<PlayerStrategy>> strategies = List.of(
+                s -> new AIPlayerStrategy(new Random(s), ThinkingOptions.HEADLESS),
+                s -> new RandomPlayerStrategy(new Random(s)));
+        SimulationConfig config = new SimulationConfig(boardSize, games, threads, seed, true, 1000, strategies);
+
+        new SimulationRunner().run(config, System.out::println);
+        if (GameMetrics.ENABLED) {
+            System.out.println(GameMetrics.get().summary());
+        }
+    }
+}
@@ -10,24 +10,38 @@ import java.util.Random;
 
 public class AIPlayerStrategy implements PlayerStrategy {
     private final Random random;
+    private final WinningStrategy winningStrategy;
+    private final ThinkingOptions thinkingOptions;
 
     public AIPlayerStrategy() {
-        this.random = new Random();
+        this(new Random(), ThinkingOptions.INTERACTIVE);
+    }
+
+    public AIPlayerStrategy(Random random, ThinkingOptions thinkingOptions) {
+        this.random = random;
+        this.winningStrategy = new LineCounterWinningStrategy();
+        this.thinkingOptions = thinkingOptions;
     }
 
     @Override
-    public Move makeMove(Player player, Board board) {
-        System.out.printf("\n%s (AI) is thinking...\n", player.getName());
+    public void newGame(long seed) {
+        random.setSeed(seed);
+    }
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    @Override
+    public Move makeMove(Player player, Board board) {
+        long start = System.nanoTime();
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("\n%s (AI) is thinking...\n", player.getName());
         }
 
         Cell bestCell = findBestMove(player, board);
-        System.out.printf("%s chose position (%d, %d)\n",
-            player.getName(), bestCell.getRow(), bestCell.getCol());
+        thinkingOptions.awaitMinimumThinkTime(start);
+
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("%s chose position (%d, %d)\n",
+                player.getName(), bestCell.getRow(), bestCell.getCol());
+        }
 
         return new Move(player, bestCell);
     }
@@ -57,38 +71,37 @@ public class AIPlayerStrategy implements PlayerStrategy {
     }
 
     private Cell findWinningMove(Player player, Board board) {
-        List<Cell> emptyCells = board.getEmptyCells();
-        for (Cell cell : emptyCells) {
-            cell.setSymbol(player.getSymbol());
-            boolean wins = new DefaultWinningStrategy().checkWinner(board, new Move(player, cell));
-            cell.reset();
-
-            if (wins) {
-                return cell;
+        int index = findWinningCell(board, board.registerSymbol(player.getSymbol()));
+        return index < 0 ? null : board.getCell(index);
+    }
+
+    private Cell findBlockingMove(Player currentPlayer, Board board) {
+        int slot = board.registerSymbol(currentPlayer.getSymbol());
+        int slotCount = board.getSlotCount();
+        for (int offset = 1; offset < slotCount; offset++) {
+            int index = findWinningCell(board, (slot + offset) % slotCount);
+            if (index >= 0) {
+                return board.getCell(index);
             }
         }
         return null;
     }
 
-    private Cell findBlockingMove(Player currentPlayer, Board board) {
-        List<Cell> emptyCells = board.getEmptyCells();
-
-        for (Cell cell : emptyCells) {
-            for (Player opponent : getOpponents(currentPlayer, board)) {
-                cell.setSymbol(opponent.getSymbol());
-                boolean opponentWins = new DefaultWinningStrategy().checkWinner(board, new Move(opponent, cell));
-                cell.reset();
-
-                if (opponentWins) {
-                    return cell;
-                }
+    private int findWinningCell(Board board, int slot) {
+        for (int position = 0; position < board.getEmptyCount(); position++) {
+            int index = board.getEmptyCell(position);
+            if (completesLine(board, index, slot)) {
+                return index;
             }
         }
-        return null;
+        return -1;
     }
 
-    private List<Player> getOpponents(Player currentPlayer, Board board) {
-        return List.of();
+    private boolean completesLine(Board board, int index, int slot) {
+        board.makeMove(index, slot);
+        boolean wins = winningStrategy.checkWinner(board, index);
+        board.unmakeMove();
+        return wins;
     }
 
     private Cell getCenterCell(Board board) {
@@ -119,10 +132,7 @@ public class AIPlayerStrategy implements PlayerStrategy {
     }
 
     private Cell getRandomEmptyCell(Board board) {
-        List<Cell> emptyCells = board.getEmptyCells();
-        if (!emptyCells.isEmpty()) {
-            return emptyCells.get(random.nextInt(emptyCells.size()));
-        }
-        return null;
+        int index = board.getRandomEmptyCell(random);
+        return index < 0 ? null : board.getCell(index);
     }
 }
\ No newline at end of file
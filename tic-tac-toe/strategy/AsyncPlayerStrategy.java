@@ -0,0 +1,19 @@
+package strategy;
+
+import model.Board;
+import model.Move;
+import model.Player;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public interface AsyncPlayerStrategy {
+    CompletableFuture<Move> makeMoveAsync(Player player, Board board);
+
+    static AsyncPlayerStrategy adapt(PlayerStrategy strategy, Executor executor) {
+        if (strategy instanceof AsyncPlayerStrategy async) {
+            return async;
+        }
+        return new BlockingStrategyAdapter(strategy, executor);
+    }
+}
@@ -0,0 +1,45 @@
+package strategy;
+
+import model.Board;
+import model.Move;
+import model.Player;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+public class BlockingStrategyAdapter implements AsyncPlayerStrategy {
+    private final PlayerStrategy strategy;
+    private final Executor executor;
+
+    public BlockingStrategyAdapter(PlayerStrategy strategy, Executor executor) {
+        this.strategy = strategy;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Move> makeMoveAsync(Player player, Board board) {
+        CompletableFuture<Move> result = new CompletableFuture<>();
+        Board workingCopy = board.copy();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                Move move = strategy.makeMove(player, workingCopy);
+                result.complete(new Move(player, board.getCell(move.getCell().getIndex())));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+            return null;
+        });
+        result.whenComplete((move, error) -> {
+            if (error != null) {
+                task.cancel(true);
+            }
+        });
+        executor.execute(task);
+        return result;
+    }
+
+    public PlayerStrategy getStrategy() {
+        return strategy;
+    }
+}
@@ -0,0 +1,174 @@
+package strategy;
+
+import model.GridBoard;
+import model.Player;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class ConnectKPlayerStrategy implements GridPlayerStrategy {
+    private static final int RADIUS = 2;
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+    private static final long WIN_SCORE = 1L << 56;
+    private static final long BLOCK_SCORE = 1L << 48;
+    private static final long OPEN_THREAT_SCORE = 1L << 40;
+    private static final long THREAT_SCORE = 1L << 32;
+    private static final int MAX_SHAPE_RUN = 8;
+
+    private final Random random;
+    private final ThinkingOptions thinkingOptions;
+    private long[] candidates = new long[64];
+    private int candidateCount;
+
+    public ConnectKPlayerStrategy() {
+        this(new Random(), ThinkingOptions.INTERACTIVE);
+    }
+
+    public ConnectKPlayerStrategy(Random random, ThinkingOptions thinkingOptions) {
+        this.random = random;
+        this.thinkingOptions = thinkingOptions;
+    }
+
+    @Override
+    public void newGame(long seed) {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public long chooseCell(Player player, GridBoard board) {
+        long start = System.nanoTime();
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("\n%s (Connect-k AI) is thinking...\n", player.getName());
+        }
+
+        int slot = board.registerSymbol(player.getSymbol());
+        long bestCell = findBestCell(board, slot);
+        thinkingOptions.awaitMinimumThinkTime(start);
+
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("%s chose position (%d, %d)\n",
+                player.getName(), GridBoard.rowOf(bestCell), GridBoard.colOf(bestCell));
+        }
+        return bestCell;
+    }
+
+    private long findBestCell(GridBoard board, int slot) {
+        collectCandidates(board);
+        if (candidateCount == 0) {
+            return firstEmptyCell(board);
+        }
+
+        long bestCell = candidates[0];
+        long bestScore = Long.MIN_VALUE;
+        int ties = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            long cell = candidates[i];
+            long score = score(board, GridBoard.rowOf(cell), GridBoard.colOf(cell), slot);
+            if (score > bestScore) {
+                bestScore = score;
+                bestCell = cell;
+                ties = 1;
+            } else if (score == bestScore && random.nextInt(++ties) == 0) {
+                bestCell = cell;
+            }
+        }
+        return bestCell;
+    }
+
+    private void collectCandidates(GridBoard board) {
+        candidateCount = 0;
+        board.forEachStone(stone -> {
+            int row = GridBoard.rowOf(stone);
+            int col = GridBoard.colOf(stone);
+            for (int dr = -RADIUS; dr <= RADIUS; dr++) {
+                for (int dc = -RADIUS; dc <= RADIUS; dc++) {
+                    if (board.isValidPosition(row + dr, col + dc) && board.isEmpty(row + dr, col + dc)) {
+                        addCandidate(GridBoard.coordinate(row + dr, col + dc));
+                    }
+                }
+            }
+        });
+        Arrays.sort(candidates, 0, candidateCount);
+        int unique = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (unique == 0 || candidates[i] != candidates[unique - 1]) {
+                candidates[unique++] = candidates[i];
+            }
+        }
+        candidateCount = unique;
+    }
+
+    private void addCandidate(long cell) {
+        if (candidateCount == candidates.length) {
+            candidates = Arrays.copyOf(candidates, candidateCount * 2);
+        }
+        candidates[candidateCount++] = cell;
+    }
+
+    private static long firstEmptyCell(GridBoard board) {
+        int centerRow = board.getRows() == GridBoard.UNBOUNDED ? 0 : board.getRows() / 2;
+        int centerCol = board.getCols() == GridBoard.UNBOUNDED ? 0 : board.getCols() / 2;
+        if (board.isEmpty(centerRow, centerCol)) {
+            return GridBoard.coordinate(centerRow, centerCol);
+        }
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
+                if (board.isEmpty(row, col)) {
+                    return GridBoard.coordinate(row, col);
+                }
+            }
+        }
+        throw new IllegalStateException("No empty cell left on the board");
+    }
+
+    private static long score(GridBoard board, int row, int col, int slot) {
+        long total = 0;
+        for (int side = 0; side < board.getSlotCount(); side++) {
+            for (int[] direction : DIRECTIONS) {
+                long value = lineValue(board, row, col, direction[0], direction[1], side);
+                if (side == slot) {
+                    total += value == BLOCK_SCORE ? WIN_SCORE : value * 2;
+                } else {
+                    total += value;
+                }
+            }
+        }
+        return total;
+    }
+
+    private static long lineValue(GridBoard board, int row, int col, int rowStep, int colStep, int side) {
+        int winLength = board.getWinLength();
+        int forward = run(board, row, col, rowStep, colStep, side, winLength);
+        int backward = run(board, row, col, -rowStep, -colStep, side, winLength);
+        int length = 1 + forward + backward;
+        if (length >= winLength) {
+            return BLOCK_SCORE;
+        }
+        int openEnds = (isOpen(board, row + rowStep * (forward + 1), col + colStep * (forward + 1)) ? 1 : 0)
+                + (isOpen(board, row - rowStep * (backward + 1), col - colStep * (backward + 1)) ? 1 : 0);
+        if (openEnds == 0) {
+            return 0;
+        }
+        if (length == winLength - 1) {
+            return openEnds == 2 ? OPEN_THREAT_SCORE : THREAT_SCORE;
+        }
+        return (long) openEnds << (3 * Math.min(length, MAX_SHAPE_RUN));
+    }
+
+    private static int run(GridBoard board, int row, int col, int rowStep, int colStep, int side, int limit) {
+        int count = 0;
+        while (count < limit) {
+            row += rowStep;
+            col += colStep;
+            if (!board.isValidPosition(row, col) || board.getOwner(row, col) != side) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean isOpen(GridBoard board, int row, int col) {
+        return board.isValidPosition(row, col) && board.isEmpty(row, col);
+    }
+}
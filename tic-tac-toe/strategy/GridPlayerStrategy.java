@@ -0,0 +1,16 @@
+package strategy;
+
+import model.Board;
+import model.GridBoard;
+import model.Move;
+import model.Player;
+
+public interface GridPlayerStrategy extends PlayerStrategy {
+    long chooseCell(Player player, GridBoard board);
+
+    @Override
+    default Move makeMove(Player player, Board board) {
+        long cell = chooseCell(player, board);
+        return new Move(player, board.getCell(GridBoard.rowOf(cell), GridBoard.colOf(cell)));
+    }
+}
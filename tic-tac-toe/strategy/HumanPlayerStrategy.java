@@ -1,35 +1,35 @@
 package strategy;
 
 import exception.InvalidMoveException;
-import model.Board;
-import model.Cell;
-import model.Move;
+import model.GridBoard;
 import model.Player;
+import service.ValidationService;
 
 import java.util.Scanner;
 
-public class HumanPlayerStrategy implements PlayerStrategy {
+public class HumanPlayerStrategy implements GridPlayerStrategy {
     private final Scanner scanner;
+    private final ValidationService validationService;
 
     public HumanPlayerStrategy(Scanner scanner) {
         this.scanner = scanner;
+        this.validationService = new ValidationService();
     }
 
     @Override
-    public Move makeMove(Player player, Board board) {
+    public long chooseCell(Player player, GridBoard board) {
         while (true) {
             try {
                 System.out.printf("\n%s's turn (Symbol: %c)\n", player.getName(), player.getSymbol());
-                System.out.print("Enter row (0-" + (board.getSize() - 1) + "): ");
+                System.out.print("Enter row" + range(board.getRows()) + ": ");
                 int row = scanner.nextInt();
-                System.out.print("Enter column (0-" + (board.getSize() - 1) + "): ");
+                System.out.print("Enter column" + range(board.getCols()) + ": ");
                 int col = scanner.nextInt();
                 scanner.nextLine();
 
-                validateMove(board, row, col);
+                validationService.validateMove(board, row, col);
 
-                Cell cell = board.getCell(row, col);
-                return new Move(player, cell);
+                return GridBoard.coordinate(row, col);
 
             } catch (InvalidMoveException e) {
                 System.out.println("Error: " + e.getMessage());
@@ -42,18 +42,7 @@ public class HumanPlayerStrategy implements PlayerStrategy {
         }
     }
 
-    private void validateMove(Board board, int row, int col) throws InvalidMoveException {
-        if (!board.isValidPosition(row, col)) {
-            throw new InvalidMoveException(String.format(
-                "Position (%d, %d) is out of bounds. Valid range: 0-%d",
-                row, col, board.getSize() - 1
-            ));
-        }
-
-        if (!board.isCellEmpty(row, col)) {
-            throw new InvalidMoveException(String.format(
-                "Cell (%d, %d) is already occupied", row, col
-            ));
-        }
+    private static String range(int length) {
+        return length == GridBoard.UNBOUNDED ? "" : " (0-" + (length - 1) + ")";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package strategy;
+
+import model.Board;
+import model.BoardGeometry;
+import model.Move;
+
+public class LineCounterWinningStrategy implements WinningStrategy {
+
+    @Override
+    public boolean checkWinner(Board board, Move lastMove) {
+        if (lastMove == null) {
+            return false;
+        }
+        return checkWinner(board, lastMove.getCell().getIndex());
+    }
+
+    @Override
+    public boolean checkWinner(Board board, int index) {
+        int slot = board.getOwner(index);
+        if (slot < 0) {
+            return false;
+        }
+
+        BoardGeometry geometry = board.getGeometry();
+        for (int line : geometry.getCellLines(index)) {
+            if (board.getLineCount(slot, line) == geometry.getLineLength(line)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
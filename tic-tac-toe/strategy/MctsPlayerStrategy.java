@@ -0,0 +1,64 @@
+package strategy;
+
+import model.Board;
+import model.Cell;
+import model.Move;
+import model.Player;
+import search.MctsSearch;
+import search.SearchResult;
+
+import java.util.Random;
+
+public class MctsPlayerStrategy implements PlayerStrategy {
+    private static final long DEFAULT_TIME_BUDGET_MILLIS = 1000;
+
+    private final MctsSearch search;
+    private final PlayerStrategy fallbackStrategy;
+    private final long maxIterations;
+    private final long timeBudgetMillis;
+    private final ThinkingOptions thinkingOptions;
+
+    public MctsPlayerStrategy() {
+        this(Runtime.getRuntime().availableProcessors(), Long.MAX_VALUE, DEFAULT_TIME_BUDGET_MILLIS,
+                System.nanoTime(), ThinkingOptions.INTERACTIVE);
+    }
+
+    public MctsPlayerStrategy(int parallelism, long maxIterations, long timeBudgetMillis, long seed,
+                              ThinkingOptions thinkingOptions) {
+        this.search = new MctsSearch(new LineCounterWinningStrategy(), parallelism, seed);
+        this.fallbackStrategy = new AIPlayerStrategy(new Random(seed), thinkingOptions);
+        this.maxIterations = maxIterations;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.thinkingOptions = thinkingOptions;
+    }
+
+    @Override
+    public void newGame(long seed) {
+        search.reseed(seed);
+        fallbackStrategy.newGame(seed);
+    }
+
+    @Override
+    public Move makeMove(Player player, Board board) {
+        int slot = board.registerSymbol(player.getSymbol());
+        if (board.getSlotCount() < 2) {
+            return fallbackStrategy.makeMove(player, board);
+        }
+
+        long start = System.nanoTime();
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("\n%s (MCTS AI) is thinking...\n", player.getName());
+        }
+
+        SearchResult result = search.search(board, slot, maxIterations, timeBudgetMillis);
+        thinkingOptions.awaitMinimumThinkTime(start);
+
+        Cell bestCell = board.getCell(result.getBestMove());
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("%s chose position (%d, %d) after %d playouts\n",
+                player.getName(), bestCell.getRow(), bestCell.getCol(), result.getNodes());
+        }
+
+        return new Move(player, bestCell);
+    }
+}
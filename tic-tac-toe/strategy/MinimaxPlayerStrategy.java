@@ -0,0 +1,164 @@
+package strategy;
+
+import model.Board;
+import model.Cell;
+import model.Move;
+import model.Player;
+import search.Evaluator;
+import search.HeapTranspositionTable;
+import search.MappedTranspositionTable;
+import search.NegamaxSearch;
+import search.ParanoidSearch;
+import search.PonderResult;
+import search.Ponderer;
+import search.SearchResult;
+import search.ThreatEvaluator;
+import search.TranspositionTable;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+public class MinimaxPlayerStrategy implements PlayerStrategy {
+    private static final long DEFAULT_TIME_BUDGET_MILLIS = 1000;
+    private static final int DEFAULT_TABLE_SIZE_MB = 16;
+    private static final int PREDICTION_DIVISOR = 10;
+    private static final int PONDER_LIMIT_MULTIPLIER = 10;
+
+    private final TranspositionTable privateTable;
+    private final NegamaxSearch search;
+    private final ParanoidSearch multiPlayerSearch;
+    private final Ponderer ponderer;
+    private final PlayerStrategy fallbackStrategy;
+    private final int maxDepth;
+    private final long timeBudgetMillis;
+    private final ThinkingOptions thinkingOptions;
+    private volatile SearchResult lastResult;
+
+    public MinimaxPlayerStrategy() {
+        this(ThinkingOptions.INTERACTIVE);
+    }
+
+    public MinimaxPlayerStrategy(ThinkingOptions thinkingOptions) {
+        this(Integer.MAX_VALUE, DEFAULT_TIME_BUDGET_MILLIS, DEFAULT_TABLE_SIZE_MB, thinkingOptions);
+    }
+
+    public MinimaxPlayerStrategy(int maxDepth, long timeBudgetMillis, int tableSizeMb,
+                                 ThinkingOptions thinkingOptions) {
+        this(maxDepth, timeBudgetMillis, tableSizeMb, thinkingOptions, ThreatEvaluator::new);
+    }
+
+    public MinimaxPlayerStrategy(int maxDepth, long timeBudgetMillis, int tableSizeMb,
+                                 ThinkingOptions thinkingOptions, Supplier<Evaluator> evaluators) {
+        WinningStrategy winningStrategy = new LineCounterWinningStrategy();
+        TranspositionTable shared = MappedTranspositionTable.shared();
+        this.privateTable = shared != null ? null : new HeapTranspositionTable(tableSizeMb);
+        TranspositionTable table = shared != null ? shared : privateTable;
+        this.search = new NegamaxSearch(winningStrategy, table, evaluators.get());
+        this.multiPlayerSearch = new ParanoidSearch(winningStrategy, table);
+        this.ponderer = thinkingOptions.isPondering()
+                ? new Ponderer(new NegamaxSearch(winningStrategy, table, evaluators.get()), winningStrategy)
+                : null;
+        this.fallbackStrategy = new AIPlayerStrategy(new Random(), thinkingOptions);
+        this.maxDepth = maxDepth;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.thinkingOptions = thinkingOptions;
+    }
+
+    @Override
+    public void newGame(long seed) {
+        stopPondering();
+        if (privateTable != null) {
+            privateTable.clear();
+        }
+        fallbackStrategy.newGame(seed);
+    }
+
+    @Override
+    public void endGame() {
+        stopPondering();
+    }
+
+    @Override
+    public Move makeMove(Player player, Board board) {
+        int slot = board.registerSymbol(player.getSymbol());
+        if (board.getSlotCount() < 2) {
+            return fallbackStrategy.makeMove(player, board);
+        }
+        if (board.getSlotCount() > 2) {
+            return makeMultiPlayerMove(player, board, slot);
+        }
+
+        long start = System.nanoTime();
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("\n%s (Minimax AI) is thinking...\n", player.getName());
+        }
+
+        PonderResult pondered = ponderer == null ? null : ponderer.stop(board);
+        SearchResult result = pondered == null
+                ? search.searchIterative(board, slot, 1 - slot, maxDepth, deadline(start, 0))
+                : searchAfterPonderHit(board, slot, start, pondered);
+        lastResult = result;
+        if (ponderer != null) {
+            long ponderBudget = timeBudgetMillis > 0 ? timeBudgetMillis : DEFAULT_TIME_BUDGET_MILLIS;
+            ponderer.start(board, result.getBestMove(), slot, 1 - slot, maxDepth,
+                    ponderBudget / PREDICTION_DIVISOR, ponderBudget * PONDER_LIMIT_MULTIPLIER);
+        }
+        thinkingOptions.awaitMinimumThinkTime(start);
+
+        Cell bestCell = board.getCell(result.getBestMove());
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("%s chose position (%d, %d) at depth %d\n",
+                player.getName(), bestCell.getRow(), bestCell.getCol(), result.getDepth());
+        }
+
+        return new Move(player, bestCell);
+    }
+
+    private Move makeMultiPlayerMove(Player player, Board board, int slot) {
+        long start = System.nanoTime();
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("\n%s (Minimax AI) is thinking...\n", player.getName());
+        }
+
+        SearchResult result = multiPlayerSearch.searchIterative(board, slot, maxDepth, deadline(start, 0));
+        lastResult = result;
+        thinkingOptions.awaitMinimumThinkTime(start);
+
+        Cell bestCell = board.getCell(result.getBestMove());
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("%s chose position (%d, %d) at depth %d\n",
+                player.getName(), bestCell.getRow(), bestCell.getCol(), result.getDepth());
+        }
+        return new Move(player, bestCell);
+    }
+
+    public SearchResult getLastResult() {
+        return lastResult;
+    }
+
+    public void stopPondering() {
+        if (ponderer != null) {
+            ponderer.stop();
+        }
+    }
+
+    private SearchResult searchAfterPonderHit(Board board, int slot, long start, PonderResult pondered) {
+        SearchResult ponderedResult = pondered.getResult();
+        int remaining = board.getCellCount() - board.getFilledCount();
+        long remainingNanos = timeBudgetMillis * 1_000_000L - pondered.getPonderNanos();
+        if (Math.abs(ponderedResult.getScore()) > NegamaxSearch.WIN_THRESHOLD
+                || ponderedResult.getDepth() >= Math.min(maxDepth, remaining)
+                || (timeBudgetMillis > 0 && remainingNanos <= 0)) {
+            return ponderedResult;
+        }
+        SearchResult result = search.searchIterative(board, slot, 1 - slot, maxDepth,
+                deadline(start, pondered.getPonderNanos()));
+        return result.getDepth() >= ponderedResult.getDepth() ? result : ponderedResult;
+    }
+
+    private long deadline(long start, long creditNanos) {
+        return timeBudgetMillis > 0
+                ? start + timeBudgetMillis * 1_000_000L - creditNanos
+                : NegamaxSearch.NO_DEADLINE;
+    }
+}
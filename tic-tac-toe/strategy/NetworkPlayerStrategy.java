@@ -0,0 +1,76 @@
+package strategy;
+
+import model.Board;
+import model.Cell;
+import model.Move;
+import model.Player;
+
+import java.util.concurrent.CompletableFuture;
+
+public class NetworkPlayerStrategy implements PlayerStrategy, AsyncPlayerStrategy {
+    private static final int NO_MOVE = -1;
+
+    private int pendingRow = NO_MOVE;
+    private int pendingCol = NO_MOVE;
+    private CompletableFuture<Move> waiting;
+    private Player waitingPlayer;
+    private Board waitingBoard;
+
+    public void offer(int row, int col) {
+        CompletableFuture<Move> future;
+        Move move;
+        synchronized (this) {
+            if (waiting == null || waiting.isDone()) {
+                this.pendingRow = row;
+                this.pendingCol = col;
+                waiting = null;
+                notifyAll();
+                return;
+            }
+            future = waiting;
+            move = new Move(waitingPlayer, waitingBoard.getCell(row, col));
+            waiting = null;
+            waitingPlayer = null;
+            waitingBoard = null;
+        }
+        future.complete(move);
+    }
+
+    @Override
+    public synchronized CompletableFuture<Move> makeMoveAsync(Player player, Board board) {
+        if (pendingRow != NO_MOVE) {
+            return CompletableFuture.completedFuture(takePendingMove(player, board));
+        }
+        if (waiting != null) {
+            waiting.cancel(false);
+        }
+        waiting = new CompletableFuture<>();
+        waitingPlayer = player;
+        waitingBoard = board;
+        return waiting;
+    }
+
+    public synchronized boolean hasPendingMove() {
+        return pendingRow != NO_MOVE;
+    }
+
+    @Override
+    public synchronized Move makeMove(Player player, Board board) {
+        while (pendingRow == NO_MOVE) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a network move", e);
+            }
+        }
+        return takePendingMove(player, board);
+    }
+
+    private Move takePendingMove(Player player, Board board) {
+        Cell cell = board.getCell(pendingRow, pendingCol);
+        pendingRow = NO_MOVE;
+        pendingCol = NO_MOVE;
+        return new Move(player, cell);
+    }
+}
@@ -6,4 +6,10 @@ import model.Player;
 
 public interface PlayerStrategy {
     Move makeMove(Player player, Board board);
+
+    default void newGame(long seed) {
+    }
+
+    default void endGame() {
+    }
 }
\ No newline at end of file
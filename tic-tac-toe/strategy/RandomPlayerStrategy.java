@@ -0,0 +1,29 @@
+package strategy;
+
+import model.Board;
+import model.Move;
+import model.Player;
+
+import java.util.Random;
+
+public class RandomPlayerStrategy implements PlayerStrategy {
+    private final Random random;
+
+    public RandomPlayerStrategy(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public void newGame(long seed) {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public Move makeMove(Player player, Board board) {
+        int index = board.getRandomEmptyCell(random);
+        if (index < 0) {
+            throw new IllegalStateException("No empty cell left on the board");
+        }
+        return new Move(player, board.getCell(index));
+    }
+}
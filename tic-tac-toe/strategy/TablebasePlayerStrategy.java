@@ -0,0 +1,76 @@
+package strategy;
+
+import model.Board;
+import model.Cell;
+import model.Move;
+import model.Player;
+import search.Tablebase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+public class TablebasePlayerStrategy implements PlayerStrategy {
+    private final PlayerStrategy fallbackStrategy;
+    private final ThinkingOptions thinkingOptions;
+    private final Tablebase tablebase;
+
+    public TablebasePlayerStrategy(int size, int winLength) {
+        this(size, winLength, ThinkingOptions.INTERACTIVE);
+    }
+
+    public TablebasePlayerStrategy(int size, int winLength, ThinkingOptions thinkingOptions) {
+        this.fallbackStrategy = new AIPlayerStrategy(new Random(), thinkingOptions);
+        this.thinkingOptions = thinkingOptions;
+        this.tablebase = Tablebase.supports(size) ? open(size, winLength) : null;
+    }
+
+    @Override
+    public void newGame(long seed) {
+        fallbackStrategy.newGame(seed);
+    }
+
+    @Override
+    public Move makeMove(Player player, Board board) {
+        int slot = board.registerSymbol(player.getSymbol());
+        if (tablebase == null || tablebase.getSize() != board.getSize()
+                || tablebase.getWinLength() != board.getWinLength() || board.getSlotCount() != 2
+                || slot != (board.getFilledCount() & 1)) {
+            return fallbackStrategy.makeMove(player, board);
+        }
+
+        long start = System.nanoTime();
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("\n%s (Tablebase AI) is thinking...\n", player.getName());
+        }
+
+        int value = tablebase.probe(board);
+        Cell bestCell = board.getCell(tablebase.bestMove(board));
+        thinkingOptions.awaitMinimumThinkTime(start);
+
+        if (thinkingOptions.isVerbose()) {
+            System.out.printf("%s chose position (%d, %d), position is %s\n",
+                player.getName(), bestCell.getRow(), bestCell.getCol(), describe(value));
+        }
+
+        return new Move(player, bestCell);
+    }
+
+    private static Tablebase open(int size, int winLength) {
+        try {
+            return Tablebase.open(size, winLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open tablebase", e);
+        }
+    }
+
+    private static String describe(int value) {
+        int distance = Tablebase.distanceOf(value);
+        return switch (Tablebase.resultOf(value)) {
+            case Tablebase.WIN -> "won in " + distance;
+            case Tablebase.LOSS -> "lost in " + distance;
+            case Tablebase.DRAW -> "drawn";
+            default -> "unknown";
+        };
+    }
+}
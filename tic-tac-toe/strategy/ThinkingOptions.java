@@ -0,0 +1,45 @@
+package strategy;
+
+public final class ThinkingOptions {
+    public static final ThinkingOptions INTERACTIVE = new ThinkingOptions(500, true);
+    public static final ThinkingOptions PONDERING = new ThinkingOptions(500, true, true);
+    public static final ThinkingOptions HEADLESS = new ThinkingOptions(0, false);
+
+    private final long minThinkMillis;
+    private final boolean verbose;
+    private final boolean pondering;
+
+    public ThinkingOptions(long minThinkMillis, boolean verbose) {
+        this(minThinkMillis, verbose, false);
+    }
+
+    public ThinkingOptions(long minThinkMillis, boolean verbose, boolean pondering) {
+        this.minThinkMillis = minThinkMillis;
+        this.verbose = verbose;
+        this.pondering = pondering;
+    }
+
+    public long getMinThinkMillis() {
+        return minThinkMillis;
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    public boolean isPondering() {
+        return pondering;
+    }
+
+    public void awaitMinimumThinkTime(long startNanos) {
+        long remainingMillis = minThinkMillis - (System.nanoTime() - startNanos) / 1_000_000L;
+        if (remainingMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(remainingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
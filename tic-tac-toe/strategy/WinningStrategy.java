@@ -1,8 +1,37 @@
 package strategy;
 
+import enums.PlayerType;
 import model.Board;
+import model.GridBoard;
 import model.Move;
+import model.Player;
 
 public interface WinningStrategy {
     boolean checkWinner(Board board, Move lastMove);
-}
\ No newline at end of file
+
+    default boolean checkWinner(Board board, int index) {
+        if (board.isEmpty(index)) {
+            return false;
+        }
+        char symbol = board.getSymbolAt(index);
+        Player owner = new Player(String.valueOf(symbol), symbol, PlayerType.AI, null);
+        return checkWinner(board, new Move(owner, board.getCell(index)));
+    }
+
+    default boolean checkWinner(GridBoard board, int row, int col) {
+        if (board instanceof Board dense) {
+            return checkWinner(dense, dense.indexOf(row, col));
+        }
+        return board.isWinningMove(row, col);
+    }
+
+    default boolean isDraw(GridBoard board) {
+        return board instanceof Board dense ? isDraw(dense) : board.isFull();
+    }
+
+    default boolean isDraw(Board board) {
+        int players = Math.max(1, board.getSlotCount());
+        int movesEach = (board.getEmptyCount() + players - 1) / players;
+        return board.isFull() || board.getFewestMissingStones() > movesEach;
+    }
+}
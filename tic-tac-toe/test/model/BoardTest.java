@@ -0,0 +1,127 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardTest {
+    @Test
+    void makeAndUnmakeRestoreIncrementalState() {
+        Random random = new Random(1);
+        for (int game = 0; game < 300; game++) {
+            int size = 3 + random.nextInt(6);
+            int players = 2 + random.nextInt(2);
+            Board board = newBoard(size, 3 + random.nextInt(size - 2), players);
+            for (int step = 0; step < size * size * 3; step++) {
+                if (board.getEmptyCount() > 0 && (board.getMoveStackSize() == 0 || random.nextInt(3) > 0)) {
+                    board.makeMove(board.getRandomEmptyCell(random), random.nextInt(players));
+                } else if (board.getMoveStackSize() > 0) {
+                    board.unmakeMove();
+                }
+                assertMatchesRebuilt(board);
+            }
+            while (board.getMoveStackSize() > 0) {
+                board.unmakeMove();
+            }
+            assertEquals(newBoard(board.getSize(), board.getWinLength(), players).getHash(), board.getHash());
+            assertEquals(board.getCellCount(), board.getEmptyCount());
+        }
+    }
+
+    @Test
+    void copyIsIndependentOfTheOriginal() {
+        Random random = new Random(2);
+        Board board = newBoard(5, 4, 2);
+        for (int move = 0; move < 8; move++) {
+            board.makeMove(board.getRandomEmptyCell(random), move & 1);
+        }
+
+        Board copy = board.copy();
+        assertMatchesRebuilt(copy);
+        assertEquals(board.getHash(), copy.getHash());
+
+        long hash = board.getHash();
+        copy.makeMove(copy.getRandomEmptyCell(random), 0);
+        assertNotEquals(hash, copy.getHash());
+        assertEquals(hash, board.getHash());
+        assertMatchesRebuilt(board);
+
+        copy.unmakeMove();
+        assertEquals(hash, copy.getHash());
+        assertMatchesRebuilt(copy);
+    }
+
+    @Test
+    void symmetricPositionsShareTheCanonicalHash() {
+        Random random = new Random(3);
+        for (int size = 3; size <= 10; size++) {
+            BoardSymmetry symmetry = BoardSymmetry.of(size);
+            for (int trial = 0; trial < 50; trial++) {
+                Board board = newBoard(size, size, 2);
+                int stones = random.nextInt(size * size);
+                for (int i = 0; i < stones; i++) {
+                    board.makeMove(board.getRandomEmptyCell(random), random.nextInt(2));
+                }
+                for (int transform = 0; transform < BoardSymmetry.TRANSFORM_COUNT; transform++) {
+                    Board transformed = newBoard(size, size, 2);
+                    for (int index = 0; index < board.getCellCount(); index++) {
+                        if (!board.isEmpty(index)) {
+                            transformed.place(symmetry.apply(transform, index), board.getOwner(index));
+                        }
+                    }
+                    assertEquals(board.getHash(transform), transformed.getHash());
+                    assertEquals(board.getCanonicalHash(), transformed.getCanonicalHash());
+                }
+            }
+        }
+    }
+
+    private static Board newBoard(int size, int winLength, int players) {
+        Board board = new Board(size, winLength);
+        for (int slot = 0; slot < players; slot++) {
+            board.registerSymbol((char) ('A' + slot));
+        }
+        return board;
+    }
+
+    private static void assertMatchesRebuilt(Board board) {
+        Board rebuilt = newBoard(board.getSize(), board.getWinLength(), board.getSlotCount());
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (!board.isEmpty(index)) {
+                rebuilt.place(index, board.getOwner(index));
+            }
+        }
+        assertEquals(rebuilt.getHash(), board.getHash());
+        assertEquals(rebuilt.getFilledCount(), board.getFilledCount());
+        assertEquals(rebuilt.getFewestMissingStones(), board.getFewestMissingStones());
+
+        BoardGeometry geometry = board.getGeometry();
+        for (int slot = 0; slot < board.getSlotCount(); slot++) {
+            for (int line = 0; line < geometry.getLineCount(); line++) {
+                int stones = 0;
+                for (int index : geometry.getLineCells(line)) {
+                    if (board.getOwner(index) == slot) {
+                        stones++;
+                    }
+                }
+                assertEquals(stones, board.getLineCount(slot, line));
+            }
+        }
+
+        boolean[] listed = new boolean[board.getCellCount()];
+        for (int position = 0; position < board.getEmptyCount(); position++) {
+            int index = board.getEmptyCell(position);
+            assertTrue(board.isEmpty(index));
+            assertFalse(listed[index]);
+            listed[index] = true;
+        }
+        for (int index = 0; index < board.getCellCount(); index++) {
+            assertEquals(board.isEmpty(index), listed[index]);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package persistence;
+
+import enums.GameStatus;
+import enums.PlayerType;
+import model.Board;
+import model.GameState;
+import model.Move;
+import model.Player;
+import org.junit.jupiter.api.Test;
+import service.GameService;
+import strategy.LineCounterWinningStrategy;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameSnapshotTest {
+    private final GameService gameService = new GameService(new LineCounterWinningStrategy());
+
+    @Test
+    void roundTripsTheCurrentVersion() throws Exception {
+        GameState original = playedGame(5, 4, 7, 11, 12, 13);
+        byte[] snapshot = GameSnapshot.encode(original);
+        assertEquals(GameSnapshot.VERSION, snapshot[0]);
+
+        assertSameGame(original, GameSnapshot.decode(ByteBuffer.wrap(snapshot), type -> null));
+    }
+
+    @Test
+    void loadsVersionOneSnapshotsWithTheBoardSizeAsWinLength() throws Exception {
+        GameState original = playedGame(4, 4, 0, 5, 1, 6);
+        byte[] current = GameSnapshot.encode(original);
+
+        // Version 1 had no win-length varint after the board size.
+        byte[] legacy = new byte[current.length - 1];
+        legacy[0] = 1;
+        legacy[1] = current[1];
+        System.arraycopy(current, 3, legacy, 2, current.length - 3);
+
+        GameState restored = GameSnapshot.decode(ByteBuffer.wrap(legacy), type -> null);
+        assertEquals(4, restored.getBoard().getWinLength());
+        assertSameGame(original, restored);
+    }
+
+    private GameState playedGame(int size, int winLength, int... cells) throws Exception {
+        GameState gameState = gameService.initializeGame(new Board(size, winLength), List.of(
+                new Player("Alice", 'X', PlayerType.HUMAN, null),
+                new Player("Bob", 'O', PlayerType.HUMAN, null)));
+        for (int cell : cells) {
+            Move move = new Move(gameState.getCurrentPlayer(), gameState.getBoard().getCell(cell));
+            gameService.executeMove(gameState, move);
+            gameService.checkGameStatus(gameState, move);
+            gameState.switchPlayer();
+        }
+        return gameState;
+    }
+
+    private static void assertSameGame(GameState expected, GameState actual) {
+        assertEquals(expected.getBoard().getSize(), actual.getBoard().getSize());
+        assertEquals(expected.getBoard().getWinLength(), actual.getBoard().getWinLength());
+        assertEquals(expected.getPositionHash(), actual.getPositionHash());
+        assertEquals(expected.getMoveCount(), actual.getMoveCount());
+        assertEquals(expected.getCurrentPlayer().getSymbol(), actual.getCurrentPlayer().getSymbol());
+        assertEquals(GameStatus.IN_PROGRESS, actual.getStatus());
+        for (int i = 0; i < expected.getMoveCount(); i++) {
+            assertEquals(expected.getMoveHistory().get(i).getCell().getIndex(),
+                    actual.getMoveHistory().get(i).getCell().getIndex());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package persistence;
+
+import enums.GameStatus;
+import enums.PlayerType;
+import model.GameState;
+import model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import server.GameSession;
+import server.GameSessionManager;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JournalReaderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysCommittedGamesAfterACrash() throws Exception {
+        Path live = directory.resolve("games.journal");
+        Path crashed = directory.resolve("crashed.journal");
+        long finishedId;
+        long openId;
+        try (GameJournal journal = new GameJournal(live, 1, 0, false);
+             GameSessionManager manager = new GameSessionManager(Executors.newSingleThreadExecutor(), journal)) {
+            GameSession finished = manager.createSession(3, humans());
+            int[][] moves = {{0, 0}, {1, 1}, {0, 1}, {2, 2}, {0, 2}};
+            for (int i = 0; i < moves.length; i++) {
+                finished.submitMove(i % 2 == 0 ? 'X' : 'O', moves[i][0], moves[i][1]).get();
+            }
+            GameSession open = manager.createSession(4, 3, humans());
+            open.submitMove('X', 3, 3).get();
+            open.submitMove('O', 0, 0).get();
+            finishedId = finished.getId();
+            openId = open.getId();
+            Files.copy(live, crashed, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        long committed = Files.size(crashed);
+        try (FileChannel channel = FileChannel.open(crashed, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{9, 0, JournalFormat.MOVE, 5}), committed);
+        }
+
+        Map<Long, GameState> games = new JournalReader(crashed).replay();
+        GameState finishedGame = games.get(finishedId);
+        assertEquals(GameStatus.WON, finishedGame.getStatus());
+        assertEquals('X', finishedGame.getWinner().getSymbol());
+        assertEquals(5, finishedGame.getMoveCount());
+        GameState openGame = games.get(openId);
+        assertFalse(openGame.isGameOver());
+        assertEquals(2, openGame.getMoveCount());
+        assertEquals(3, openGame.getBoard().getWinLength());
+        assertEquals('X', openGame.getCurrentPlayer().getSymbol());
+
+        try (GameJournal journal = new GameJournal(crashed, 1, 0, false);
+             GameSessionManager manager = new GameSessionManager(Executors.newSingleThreadExecutor(), journal)) {
+            assertEquals(committed, Files.size(crashed));
+            assertEquals(1, manager.recover(new JournalReader(crashed)));
+            assertEquals(3, manager.submitMove(openId, 'X', 2, 2).get().getMoveCount());
+        }
+        GameState reopened = new JournalReader(crashed).replay(openId);
+        assertEquals(3, reopened.getMoveCount());
+        assertNull(reopened.getWinner());
+    }
+
+    @Test
+    void closedSessionsAreNotRecovered() throws Exception {
+        Path path = directory.resolve("closed.journal");
+        long closedId;
+        try (GameJournal journal = new GameJournal(path, 1, 0, false);
+             GameSessionManager manager = new GameSessionManager(Executors.newSingleThreadExecutor(), journal)) {
+            GameSession closed = manager.createSession(3, humans());
+            closed.submitMove('X', 1, 1).get();
+            closedId = closed.getId();
+            manager.closeSession(closedId);
+            assertEquals(GameStatus.ABANDONED, closed.submit(state -> state.getStatus()).get());
+        }
+
+        GameState replayed = new JournalReader(path).replay(closedId);
+        assertEquals(GameStatus.ABANDONED, replayed.getStatus());
+        assertEquals(1, replayed.getMoveCount());
+        try (GameSessionManager manager = new GameSessionManager(Executors.newSingleThreadExecutor())) {
+            assertEquals(0, manager.recover(new JournalReader(path)));
+        }
+    }
+
+    private static List<Player> humans() {
+        return List.of(new Player("Alice", 'X', PlayerType.HUMAN, null),
+                new Player("Bob", 'O', PlayerType.HUMAN, null));
+    }
+}
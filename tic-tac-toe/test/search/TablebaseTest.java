@@ -0,0 +1,103 @@
+package search;
+
+import model.Board;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import strategy.LineCounterWinningStrategy;
+import strategy.WinningStrategy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TablebaseTest {
+    @TempDir
+    static Path directory;
+
+    private static String previousDirectory;
+
+    private final WinningStrategy winningStrategy = new LineCounterWinningStrategy();
+    private final NegamaxSearch search = new NegamaxSearch(winningStrategy, new HeapTranspositionTable(4));
+
+    @BeforeAll
+    static void useTemporaryDirectory() {
+        previousDirectory = System.getProperty(Tablebase.DIRECTORY_PROPERTY);
+        System.setProperty(Tablebase.DIRECTORY_PROPERTY, directory.toString());
+    }
+
+    @AfterAll
+    static void restoreDirectory() {
+        if (previousDirectory == null) {
+            System.clearProperty(Tablebase.DIRECTORY_PROPERTY);
+        } else {
+            System.setProperty(Tablebase.DIRECTORY_PROPERTY, previousDirectory);
+        }
+    }
+
+    @Test
+    void agreesWithNegamaxOnEveryReachableThreeByThreePosition() throws Exception {
+        Tablebase tablebase = Tablebase.open(3, 3);
+        assertTrue(Files.exists(Tablebase.defaultPath(3, 3)));
+
+        Board board = newBoard();
+        assertEquals(Tablebase.DRAW, Tablebase.resultOf(tablebase.probe(board)));
+        assertEquals(4520, compareAll(tablebase, board, 0, new HashSet<>()));
+    }
+
+    @Test
+    void bestMovesKeepTheTheoreticalResult() throws Exception {
+        Tablebase tablebase = Tablebase.open(3, 3);
+        Random random = new Random(6);
+        for (int game = 0; game < 200; game++) {
+            Board board = newBoard();
+            int side = 0;
+            while (true) {
+                int move = side == 0 ? tablebase.bestMove(board) : board.getRandomEmptyCell(random);
+                board.makeMove(move, side);
+                if (winningStrategy.checkWinner(board, move)) {
+                    assertEquals(0, side, "the tablebase side lost");
+                    break;
+                }
+                if (board.isFull()) {
+                    break;
+                }
+                side ^= 1;
+            }
+        }
+    }
+
+    private int compareAll(Tablebase tablebase, Board board, int side, Set<Long> seen) {
+        if (!seen.add(board.getHash())) {
+            return 0;
+        }
+        SearchResult result = search.search(board, side, 1 - side, board.getEmptyCount());
+        int expected = result.getScore() > 0 ? Tablebase.WIN : result.getScore() < 0 ? Tablebase.LOSS : Tablebase.DRAW;
+        assertEquals(expected, Tablebase.resultOf(tablebase.probe(board)));
+
+        int positions = 1;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (board.isEmpty(index)) {
+                board.makeMove(index, side);
+                if (!winningStrategy.checkWinner(board, index) && !board.isFull()) {
+                    positions += compareAll(tablebase, board, 1 - side, seen);
+                }
+                board.unmakeMove();
+            }
+        }
+        return positions;
+    }
+
+    private static Board newBoard() {
+        Board board = new Board(3);
+        board.registerSymbol('X');
+        board.registerSymbol('O');
+        return board;
+    }
+}
@@ -0,0 +1,27 @@
+package search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TranspositionTableTest {
+    @Test
+    void packRoundTripsEveryField() {
+        long data = TranspositionTable.pack(-1234, 17, TranspositionTable.UPPER_BOUND, 360);
+        assertEquals(-1234, TranspositionTable.scoreOf(data));
+        assertEquals(17, TranspositionTable.depthOf(data));
+        assertEquals(TranspositionTable.UPPER_BOUND, TranspositionTable.boundOf(data));
+        assertEquals(360, TranspositionTable.bestMoveOf(data));
+    }
+
+    @Test
+    void depthsBeyondTheFieldAreClampedInsteadOfWrapped() {
+        for (int depth : new int[]{256, 300, 361, Integer.MAX_VALUE}) {
+            long data = TranspositionTable.pack(5, depth, TranspositionTable.EXACT, -1);
+            assertEquals(TranspositionTable.MAX_DEPTH, TranspositionTable.depthOf(data));
+            assertEquals(5, TranspositionTable.scoreOf(data));
+            assertEquals(TranspositionTable.EXACT, TranspositionTable.boundOf(data));
+            assertEquals(-1, TranspositionTable.bestMoveOf(data));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package strategy;
+
+import model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WinningStrategyTest {
+    private final WinningStrategy winningStrategy = new LineCounterWinningStrategy();
+
+    @Test
+    void deadDrawsCannotBeWonByAnyContinuation() {
+        Random random = new Random(4);
+        int earlyDraws = 0;
+        for (int game = 0; game < 400; game++) {
+            int size = 3 + random.nextInt(2);
+            int players = 2 + random.nextInt(2);
+            Board board = new Board(size, 3 + random.nextInt(size - 2));
+            for (int slot = 0; slot < players; slot++) {
+                board.registerSymbol((char) ('A' + slot));
+            }
+
+            int side = 0;
+            boolean won = false;
+            while (!won && !winningStrategy.isDraw(board)) {
+                int index = board.getRandomEmptyCell(random);
+                board.makeMove(index, side);
+                won = winningStrategy.checkWinner(board, index);
+                side = (side + 1) % players;
+            }
+            if (!won && !board.isFull()) {
+                earlyDraws++;
+                assertFalse(canAnyoneWin(board, side, players), "dead draw declared with a win still reachable");
+            }
+        }
+        assertTrue(earlyDraws > 0);
+    }
+
+    private boolean canAnyoneWin(Board board, int side, int players) {
+        return canAnyoneWin(board, side, players, new HashMap<>());
+    }
+
+    private boolean canAnyoneWin(Board board, int side, int players, Map<Long, Boolean> seen) {
+        long key = board.getHash() * 31 + side;
+        Boolean known = seen.get(key);
+        if (known != null) {
+            return known;
+        }
+        boolean reachable = false;
+        for (int index = 0; index < board.getCellCount() && !reachable; index++) {
+            if (board.isEmpty(index)) {
+                board.makeMove(index, side);
+                reachable = winningStrategy.checkWinner(board, index)
+                        || canAnyoneWin(board, (side + 1) % players, players, seen);
+                board.unmakeMove();
+            }
+        }
+        seen.put(key, reachable);
+        return reachable;
+    }
+}
@@ -0,0 +1,36 @@
+package tournament;
+
+final class EloMath {
+    static final double Z_95 = 1.959964;
+
+    private static final double MAX_ELO = 1000;
+
+    private EloMath() {
+    }
+
+    static double expectedScore(double elo) {
+        return 1 / (1 + Math.pow(10, -elo / 400));
+    }
+
+    static double eloFromScore(double score) {
+        if (score <= 0) {
+            return -MAX_ELO;
+        }
+        if (score >= 1) {
+            return MAX_ELO;
+        }
+        return Math.max(-MAX_ELO, Math.min(MAX_ELO, -400 * Math.log10(1 / score - 1)));
+    }
+
+    static double eloMargin(long wins, long draws, long losses) {
+        long games = wins + draws + losses;
+        if (games == 0) {
+            return MAX_ELO;
+        }
+        double score = (wins + 0.5 * draws) / games;
+        double variance = (wins * Math.pow(1 - score, 2) + draws * Math.pow(0.5 - score, 2)
+                + losses * Math.pow(score, 2)) / games;
+        double margin = Z_95 * Math.sqrt(variance / games);
+        return (eloFromScore(score + margin) - eloFromScore(score - margin)) / 2;
+    }
+}
@@ -0,0 +1,75 @@
+package tournament;
+
+import enums.SprtDecision;
+
+public class PairingResult {
+    private final int round;
+    private final int first;
+    private final int second;
+    private final long wins;
+    private final long draws;
+    private final long losses;
+    private final double llr;
+    private final SprtDecision decision;
+
+    public PairingResult(int round, int first, int second, long wins, long draws, long losses, double llr,
+                         SprtDecision decision) {
+        this.round = round;
+        this.first = first;
+        this.second = second;
+        this.wins = wins;
+        this.draws = draws;
+        this.losses = losses;
+        this.llr = llr;
+        this.decision = decision;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public long getGames() {
+        return wins + draws + losses;
+    }
+
+    public double getScore() {
+        long games = getGames();
+        return games == 0 ? 0.5 : (wins + 0.5 * draws) / games;
+    }
+
+    public double getEloDifference() {
+        return EloMath.eloFromScore(getScore());
+    }
+
+    public double getEloMargin() {
+        return EloMath.eloMargin(wins, draws, losses);
+    }
+
+    public double getLogLikelihoodRatio() {
+        return llr;
+    }
+
+    public SprtDecision getDecision() {
+        return decision;
+    }
+}
@@ -0,0 +1,60 @@
+package tournament;
+
+import enums.SprtDecision;
+
+public class SprtTest {
+    private final double elo0;
+    private final double elo1;
+    private final double lowerBound;
+    private final double upperBound;
+
+    public SprtTest(double elo0, double elo1, double alpha, double beta) {
+        this.elo0 = elo0;
+        this.elo1 = elo1;
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    public double getElo0() {
+        return elo0;
+    }
+
+    public double getElo1() {
+        return elo1;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    public double logLikelihoodRatio(long wins, long draws, long losses) {
+        long games = wins + draws + losses;
+        if (games == 0) {
+            return 0.0;
+        }
+        double correction = wins == 0 || draws == 0 || losses == 0 ? 0.5 : 0.0;
+        double w = wins + correction;
+        double d = draws + correction;
+        double l = losses + correction;
+        double n = w + d + l;
+        double score = (w + 0.5 * d) / n;
+        double variance = (w * Math.pow(1 - score, 2) + d * Math.pow(0.5 - score, 2) + l * Math.pow(score, 2)) / n;
+        double score0 = EloMath.expectedScore(elo0);
+        double score1 = EloMath.expectedScore(elo1);
+        return games * (score1 - score0) * (2 * score - score0 - score1) / (2 * variance);
+    }
+
+    public SprtDecision decide(double logLikelihoodRatio) {
+        if (logLikelihoodRatio >= upperBound) {
+            return SprtDecision.ACCEPT_H1;
+        }
+        if (logLikelihoodRatio <= lowerBound) {
+            return SprtDecision.ACCEPT_H0;
+        }
+        return SprtDecision.CONTINUE;
+    }
+}
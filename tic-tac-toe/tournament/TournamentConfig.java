@@ -0,0 +1,74 @@
+package tournament;
+
+import enums.PairingMode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TournamentConfig {
+    private final int boardSize;
+    private final int winLength;
+    private final PairingMode pairingMode;
+    private final int rounds;
+    private final int gamesPerPairing;
+    private final int threads;
+    private final long seed;
+    private final SprtTest sprt;
+    private final long reportIntervalMillis;
+    private final List<TournamentEntry> entries;
+
+    public TournamentConfig(int boardSize, int winLength, PairingMode pairingMode, int rounds, int gamesPerPairing,
+                            int threads, long seed, SprtTest sprt, long reportIntervalMillis,
+                            List<TournamentEntry> entries) {
+        this.boardSize = boardSize;
+        this.winLength = winLength;
+        this.pairingMode = pairingMode;
+        this.rounds = rounds;
+        this.gamesPerPairing = gamesPerPairing;
+        this.threads = threads;
+        this.seed = seed;
+        this.sprt = sprt;
+        this.reportIntervalMillis = reportIntervalMillis;
+        this.entries = new ArrayList<>(entries);
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public PairingMode getPairingMode() {
+        return pairingMode;
+    }
+
+    public int getRounds() {
+        return pairingMode == PairingMode.ROUND_ROBIN ? 1 : rounds;
+    }
+
+    public int getGamesPerPairing() {
+        return gamesPerPairing;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public SprtTest getSprt() {
+        return sprt;
+    }
+
+    public long getReportIntervalMillis() {
+        return reportIntervalMillis;
+    }
+
+    public List<TournamentEntry> getEntries() {
+        return new ArrayList<>(entries);
+    }
+}
@@ -0,0 +1,23 @@
+package tournament;
+
+import strategy.PlayerStrategy;
+
+import java.util.function.LongFunction;
+
+public class TournamentEntry {
+    private final String name;
+    private final LongFunction<PlayerStrategy> strategyFactory;
+
+    public TournamentEntry(String name, LongFunction<PlayerStrategy> strategyFactory) {
+        this.name = name;
+        this.strategyFactory = strategyFactory;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PlayerStrategy createStrategy(long seed) {
+        return strategyFactory.apply(seed);
+    }
+}
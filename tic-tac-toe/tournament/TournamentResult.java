@@ -0,0 +1,154 @@
+package tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class TournamentResult {
+    private static final int RATING_ITERATIONS = 200;
+    private static final double PRIOR_DRAWS = 1.0;
+
+    private final List<String> names;
+    private final List<PairingResult> pairings;
+    private final long gamesPlayed;
+    private final long elapsedNanos;
+    private final double[] points;
+    private final long[] games;
+    private final double[] ratings;
+    private final double[] margins;
+
+    public TournamentResult(List<String> names, List<PairingResult> pairings, long gamesPlayed, long elapsedNanos) {
+        this.names = new ArrayList<>(names);
+        this.pairings = new ArrayList<>(pairings);
+        this.gamesPlayed = gamesPlayed;
+        this.elapsedNanos = elapsedNanos;
+        this.points = new double[names.size()];
+        this.games = new long[names.size()];
+        this.ratings = new double[names.size()];
+        this.margins = new double[names.size()];
+        computeStandings();
+    }
+
+    public List<String> getNames() {
+        return new ArrayList<>(names);
+    }
+
+    public List<PairingResult> getPairings() {
+        return new ArrayList<>(pairings);
+    }
+
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : gamesPlayed * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public double getPoints(int entry) {
+        return points[entry];
+    }
+
+    public long getGames(int entry) {
+        return games[entry];
+    }
+
+    public double getRating(int entry) {
+        return ratings[entry];
+    }
+
+    public double getRatingMargin(int entry) {
+        return margins[entry];
+    }
+
+    private void computeStandings() {
+        int count = names.size();
+        double[][] scored = new double[count][count];
+        double[][] played = new double[count][count];
+        long[] wins = new long[count];
+        long[] draws = new long[count];
+        long[] losses = new long[count];
+        for (PairingResult pairing : pairings) {
+            int a = pairing.getFirst();
+            int b = pairing.getSecond();
+            double score = pairing.getWins() + 0.5 * pairing.getDraws();
+            scored[a][b] += score;
+            scored[b][a] += pairing.getGames() - score;
+            played[a][b] += pairing.getGames();
+            played[b][a] += pairing.getGames();
+            wins[a] += pairing.getWins();
+            wins[b] += pairing.getLosses();
+            losses[a] += pairing.getLosses();
+            losses[b] += pairing.getWins();
+            draws[a] += pairing.getDraws();
+            draws[b] += pairing.getDraws();
+        }
+
+        for (int i = 0; i < count; i++) {
+            points[i] = wins[i] + 0.5 * draws[i];
+            games[i] = wins[i] + draws[i] + losses[i];
+            for (int j = 0; j < count; j++) {
+                if (played[i][j] > 0) {
+                    scored[i][j] += PRIOR_DRAWS * 0.5;
+                    played[i][j] += PRIOR_DRAWS;
+                }
+            }
+        }
+
+        double[] strength = new double[count];
+        Arrays.fill(strength, 1.0);
+        for (int iteration = 0; iteration < RATING_ITERATIONS; iteration++) {
+            double logSum = 0;
+            int rated = 0;
+            for (int i = 0; i < count; i++) {
+                double total = 0;
+                double denominator = 0;
+                for (int j = 0; j < count; j++) {
+                    if (played[i][j] > 0) {
+                        total += scored[i][j];
+                        denominator += played[i][j] / (strength[i] + strength[j]);
+                    }
+                }
+                if (denominator > 0) {
+                    strength[i] = total / denominator;
+                    logSum += Math.log(strength[i]);
+                    rated++;
+                }
+            }
+            double mean = rated == 0 ? 0 : Math.exp(logSum / rated);
+            for (int i = 0; i < count; i++) {
+                strength[i] /= mean;
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            ratings[i] = games[i] == 0 ? 0 : 400 * Math.log10(strength[i]);
+            margins[i] = EloMath.eloMargin(wins[i], draws[i], losses[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%d games | %.0f games/sec%n", gamesPlayed, getGamesPerSecond()));
+        table.append(String.format("%-4s %-20s %8s %8s %14s%n", "Rank", "Entry", "Games", "Points", "Elo"));
+        Integer[] order = new Integer[names.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> -ratings[i]).thenComparingInt(i -> i));
+        for (int rank = 0; rank < order.length; rank++) {
+            int i = order[rank];
+            table.append(String.format("%-4d %-20s %8d %8.1f %7.0f +/- %-4.0f%n",
+                    rank + 1, names.get(i), games[i], points[i], ratings[i], margins[i]));
+        }
+        for (PairingResult pairing : pairings) {
+            table.append(String.format("  r%d %s vs %s: +%d =%d -%d | Elo %+.0f +/- %.0f | LLR %.2f %s%n",
+                    pairing.getRound() + 1, names.get(pairing.getFirst()), names.get(pairing.getSecond()),
+                    pairing.getWins(), pairing.getDraws(), pairing.getLosses(), pairing.getEloDifference(),
+                    pairing.getEloMargin(), pairing.getLogLikelihoodRatio(), pairing.getDecision()));
+        }
+        return table.toString();
+    }
+}
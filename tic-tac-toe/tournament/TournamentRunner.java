@@ -0,0 +1,330 @@
+package tournament;
+
+import enums.GameStatus;
+import enums.PairingMode;
+import enums.PlayerType;
+import enums.SprtDecision;
+import exception.GameException;
+import model.Board;
+import model.GameState;
+import model.Player;
+import service.GameService;
+import service.ValidationService;
+import strategy.AIPlayerStrategy;
+import strategy.LineCounterWinningStrategy;
+import strategy.MinimaxPlayerStrategy;
+import strategy.PlayerStrategy;
+import strategy.RandomPlayerStrategy;
+import strategy.ThinkingOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+public class TournamentRunner {
+    private static final int GRAIN = 4;
+    private static final int WAVE_GAMES_PER_THREAD = 32;
+    private static final byte FIRST_WINS = 1;
+    private static final byte DRAW = 2;
+    private static final byte SECOND_WINS = 3;
+
+    private final GameService gameService;
+
+    public TournamentRunner() {
+        this.gameService = new GameService(new LineCounterWinningStrategy());
+    }
+
+    public TournamentResult run(TournamentConfig config, Consumer<TournamentResult> progressListener)
+            throws GameException {
+        List<TournamentEntry> entries = config.getEntries();
+        if (entries.size() < 2) {
+            throw new GameException("A tournament requires at least 2 entries");
+        }
+        if (config.getGamesPerPairing() < 1 || config.getRounds() < 1) {
+            throw new GameException("A tournament requires at least one round and one game per pairing");
+        }
+        ValidationService validationService = new ValidationService();
+        validationService.validateBoardSize(config.getBoardSize());
+        validationService.validateWinLength(config.getBoardSize(), config.getWinLength());
+
+        long startNanos = System.nanoTime();
+        LongAdder gamesPlayed = new LongAdder();
+        Map<Thread, PlayerStrategy[]> workerStrategies = new ConcurrentHashMap<>();
+        List<Pairing> pairings = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(config.getThreads());
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        if (progressListener != null && config.getReportIntervalMillis() > 0) {
+            reporter.scheduleAtFixedRate(
+                    () -> progressListener.accept(snapshot(entries, pairings, gamesPlayed, startNanos)),
+                    config.getReportIntervalMillis(), config.getReportIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            for (int round = 0; round < config.getRounds(); round++) {
+                List<Pairing> roundPairings = pair(config, entries.size(), round, pairings);
+                synchronized (pairings) {
+                    pairings.addAll(roundPairings);
+                }
+                playRound(config, entries, roundPairings, pool, workerStrategies, gamesPlayed);
+            }
+        } finally {
+            pool.shutdownNow();
+            reporter.shutdownNow();
+        }
+
+        TournamentResult result = snapshot(entries, pairings, gamesPlayed, startNanos);
+        if (progressListener != null) {
+            progressListener.accept(result);
+        }
+        return result;
+    }
+
+    private void playRound(TournamentConfig config, List<TournamentEntry> entries, List<Pairing> roundPairings,
+                           ForkJoinPool pool, Map<Thread, PlayerStrategy[]> workerStrategies,
+                           LongAdder gamesPlayed) {
+        int game = 0;
+        while (game < config.getGamesPerPairing()) {
+            List<Pairing> undecided = new ArrayList<>();
+            for (Pairing pairing : roundPairings) {
+                if (!pairing.isDecided()) {
+                    undecided.add(pairing);
+                }
+            }
+            if (undecided.isEmpty()) {
+                return;
+            }
+            int wave = Math.max(2, WAVE_GAMES_PER_THREAD * config.getThreads() / undecided.size()) & ~1;
+            int end = Math.min(config.getGamesPerPairing(), game + wave);
+            Pairing[] active = undecided.toArray(new Pairing[0]);
+            pool.invoke(new GameBatch(config, entries, active, game, workerStrategies, gamesPlayed, 0,
+                    (long) active.length * (end - game)));
+            game = end;
+        }
+    }
+
+    private List<Pairing> pair(TournamentConfig config, int entryCount, int round, List<Pairing> history) {
+        List<Pairing> pairings = new ArrayList<>();
+        if (config.getPairingMode() == PairingMode.ROUND_ROBIN) {
+            for (int first = 0; first < entryCount; first++) {
+                for (int second = first + 1; second < entryCount; second++) {
+                    pairings.add(new Pairing(round, first, second, config));
+                }
+            }
+            return pairings;
+        }
+
+        double[] points = new double[entryCount];
+        boolean[][] met = new boolean[entryCount][entryCount];
+        for (Pairing pairing : history) {
+            PairingResult result = pairing.result();
+            points[pairing.first] += result.getWins() + 0.5 * result.getDraws();
+            points[pairing.second] += result.getLosses() + 0.5 * result.getDraws();
+            met[pairing.first][pairing.second] = true;
+            met[pairing.second][pairing.first] = true;
+        }
+        Integer[] order = new Integer[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> -points[i]).thenComparingInt(i -> i));
+
+        boolean[] paired = new boolean[entryCount];
+        for (int i = 0; i < entryCount; i++) {
+            int first = order[i];
+            if (paired[first]) {
+                continue;
+            }
+            int opponent = -1;
+            for (int j = i + 1; j < entryCount; j++) {
+                int candidate = order[j];
+                if (!paired[candidate] && (opponent < 0 || (met[first][opponent] && !met[first][candidate]))) {
+                    opponent = candidate;
+                    if (!met[first][candidate]) {
+                        break;
+                    }
+                }
+            }
+            if (opponent >= 0) {
+                paired[first] = true;
+                paired[opponent] = true;
+                pairings.add(new Pairing(round, first, opponent, config));
+            }
+        }
+        return pairings;
+    }
+
+    private TournamentResult snapshot(List<TournamentEntry> entries, List<Pairing> pairings, LongAdder gamesPlayed,
+                                      long startNanos) {
+        List<String> names = new ArrayList<>();
+        for (TournamentEntry entry : entries) {
+            names.add(entry.getName());
+        }
+        List<PairingResult> results = new ArrayList<>();
+        synchronized (pairings) {
+            for (Pairing pairing : pairings) {
+                results.add(pairing.result());
+            }
+        }
+        return new TournamentResult(names, results, gamesPlayed.sum(), System.nanoTime() - startNanos);
+    }
+
+    private byte playGame(TournamentConfig config, List<TournamentEntry> entries, PlayerStrategy[] strategies,
+                          Pairing pairing, int game) {
+        long seed = gameSeed(config.getSeed(), pairing.round, pairing.first, pairing.second, game);
+        Player first = new Player(entries.get(pairing.first).getName(), 'X', PlayerType.AI,
+                strategyFor(entries, strategies, pairing.first, seed));
+        Player second = new Player(entries.get(pairing.second).getName(), 'O', PlayerType.AI,
+                strategyFor(entries, strategies, pairing.second, ~seed));
+        List<Player> order = game % 2 == 0 ? List.of(first, second) : List.of(second, first);
+
+        GameState gameState;
+        try {
+            gameState = gameService.initializeGame(new Board(config.getBoardSize(), config.getWinLength()), order);
+        } catch (GameException e) {
+            throw new IllegalStateException(e);
+        }
+        while (!gameState.isGameOver()) {
+            gameService.playTurn(gameState);
+        }
+        if (gameState.getStatus() == GameStatus.DRAW) {
+            return DRAW;
+        }
+        return gameState.getWinner() == first ? FIRST_WINS : SECOND_WINS;
+    }
+
+    private static PlayerStrategy strategyFor(List<TournamentEntry> entries, PlayerStrategy[] strategies, int entry,
+                                              long seed) {
+        if (strategies[entry] == null) {
+            strategies[entry] = entries.get(entry).createStrategy(seed);
+        }
+        strategies[entry].newGame(seed);
+        return strategies[entry];
+    }
+
+    private static long gameSeed(long seed, int round, int first, int second, int game) {
+        long value = seed;
+        for (long part : new long[]{round, first, second, game}) {
+            value = (value ^ part) * 0x9E3779B97F4A7C15L;
+            value ^= value >>> 29;
+        }
+        return value;
+    }
+
+    private final class GameBatch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final TournamentConfig config;
+        private final List<TournamentEntry> entries;
+        private final Pairing[] pairings;
+        private final int firstGame;
+        private final Map<Thread, PlayerStrategy[]> workerStrategies;
+        private final LongAdder gamesPlayed;
+        private final long from;
+        private final long to;
+
+        GameBatch(TournamentConfig config, List<TournamentEntry> entries, Pairing[] pairings, int firstGame,
+                  Map<Thread, PlayerStrategy[]> workerStrategies, LongAdder gamesPlayed, long from, long to) {
+            this.config = config;
+            this.entries = entries;
+            this.pairings = pairings;
+            this.firstGame = firstGame;
+            this.workerStrategies = workerStrategies;
+            this.gamesPlayed = gamesPlayed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GRAIN) {
+                PlayerStrategy[] strategies = workerStrategies.computeIfAbsent(Thread.currentThread(),
+                        thread -> new PlayerStrategy[entries.size()]);
+                for (long task = from; task < to; task++) {
+                    Pairing pairing = pairings[(int) (task % pairings.length)];
+                    int game = firstGame + (int) (task / pairings.length);
+                    if (pairing.isDecided()) {
+                        continue;
+                    }
+                    pairing.record(game, playGame(config, entries, strategies, pairing, game));
+                    gamesPlayed.increment();
+                }
+                return;
+            }
+            long middle = (from + to) >>> 1;
+            invokeAll(new GameBatch(config, entries, pairings, firstGame, workerStrategies, gamesPlayed, from, middle),
+                    new GameBatch(config, entries, pairings, firstGame, workerStrategies, gamesPlayed, middle, to));
+        }
+    }
+
+    private static final class Pairing {
+        private final int round;
+        private final int first;
+        private final int second;
+        private final SprtTest sprt;
+        private final byte[] outcomes;
+        private int counted;
+        private long wins;
+        private long draws;
+        private long losses;
+        private double llr;
+        private volatile SprtDecision decision = SprtDecision.CONTINUE;
+
+        Pairing(int round, int first, int second, TournamentConfig config) {
+            this.round = round;
+            this.first = first;
+            this.second = second;
+            this.sprt = config.getSprt();
+            this.outcomes = new byte[config.getGamesPerPairing()];
+        }
+
+        boolean isDecided() {
+            return decision != SprtDecision.CONTINUE;
+        }
+
+        synchronized void record(int game, byte outcome) {
+            outcomes[game] = outcome;
+            while (decision == SprtDecision.CONTINUE && counted < outcomes.length && outcomes[counted] != 0) {
+                switch (outcomes[counted++]) {
+                    case FIRST_WINS -> wins++;
+                    case SECOND_WINS -> losses++;
+                    default -> draws++;
+                }
+                if (sprt != null && counted % 2 == 0) {
+                    llr = sprt.logLikelihoodRatio(wins, draws, losses);
+                    decision = sprt.decide(llr);
+                }
+            }
+        }
+
+        synchronized PairingResult result() {
+            return new PairingResult(round, first, second, wins, draws, losses, llr, decision);
+        }
+    }
+
+    public static void main(String[] args) throws GameException {
+        int boardSize = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int gamesPerPairing = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        List<TournamentEntry> entries = List.of(
+                new TournamentEntry("Random", s -> new RandomPlayerStrategy(new Random(s))),
+                new TournamentEntry("Heuristic", s -> new AIPlayerStrategy(new Random(s), ThinkingOptions.HEADLESS)),
+                new TournamentEntry("Minimax-d2", s -> new MinimaxPlayerStrategy(2, 0, 1, ThinkingOptions.HEADLESS)));
+        TournamentConfig config = new TournamentConfig(boardSize, boardSize, PairingMode.ROUND_ROBIN, 1,
+                gamesPerPairing, threads, seed, new SprtTest(0, 10, 0.05, 0.05), 2000, entries);
+
+        new TournamentRunner().run(config, System.out::println);
+    }
+}